@@ -12,3 +12,27 @@ export interface Task {
   status: 'TODO' | 'IN_PROGRESS' | 'DONE';
   assignedTo: User;
 }
+
+export type TaskStatus = 'TODO' | 'IN_PROGRESS' | 'COMPLETED' | 'CANCELLED';
+
+export type TaskPriority = 'LOW' | 'MEDIUM' | 'HIGH';
+
+export interface TaskStats {
+  total: number;
+  byStatus: Record<TaskStatus, number>;
+  byPriority: Record<TaskPriority, number>;
+  byStatusAndPriority: Record<TaskStatus, Record<TaskPriority, number>>;
+}
+
+export type TaskStreamEventType = 'created' | 'updated' | 'deleted';
+
+export interface TaskStreamEvent {
+  type: TaskStreamEventType;
+  task: {
+    id: string;
+    title: string;
+    status: TaskStatus;
+    priority: TaskPriority;
+    assignedUserId: string | null;
+  };
+}
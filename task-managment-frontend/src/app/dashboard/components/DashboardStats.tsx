@@ -1,12 +1,14 @@
 import React from 'react';
 import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
+import { useTaskStats } from '@/app/dashboard/hooks/useTaskStats';
 
 const DashboardStats = () => {
-  // Placeholder stats data
-  const stats = [
-    { name: 'Total Tasks', stat: '12' },
-    { name: 'Completed', stat: '4' },
-    { name: 'In Progress', stat: '8' },
+  const { stats, isLoading, error } = useTaskStats();
+
+  const items = [
+    { name: 'Total Tasks', stat: stats?.total },
+    { name: 'Completed', stat: stats?.byStatus.COMPLETED },
+    { name: 'In Progress', stat: stats?.byStatus.IN_PROGRESS },
   ];
 
   return (
@@ -15,13 +17,16 @@ const DashboardStats = () => {
         <CardTitle>Task Statistics</CardTitle>
       </CardHeader>
       <CardContent>
+        {error && <p className="text-sm text-destructive mb-4">{error}</p>}
         <div className="grid grid-cols-1 gap-4 sm:grid-cols-3">
-          {stats.map((item) => (
+          {items.map((item) => (
             <div key={item.name} className="bg-muted p-4 rounded-lg">
               <p className="text-sm font-medium text-muted-foreground">
                 {item.name}
               </p>
-              <p className="text-2xl font-bold">{item.stat}</p>
+              <p className="text-2xl font-bold">
+                {isLoading || item.stat === undefined ? '-' : item.stat}
+              </p>
             </div>
           ))}
         </div>
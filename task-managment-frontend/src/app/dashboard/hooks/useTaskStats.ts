@@ -0,0 +1,53 @@
+import { useState, useEffect, useRef } from 'react';
+import { TaskStats } from '@/app/common/types';
+import { taskStatsService } from '@/app/dashboard/services/taskStatsService';
+import { taskStreamService } from '@/app/dashboard/services/taskStreamService';
+import { useAuth } from '@/app/common/contexts/AuthContext';
+
+export function useTaskStats() {
+  const [stats, setStats] = useState<TaskStats | null>(null);
+  const [isLoading, setIsLoading] = useState(false);
+  const [error, setError] = useState<string | null>(null);
+  const { isAdmin } = useAuth();
+
+  const fetchStats = async () => {
+    setIsLoading(true);
+    setError(null);
+    try {
+      // Admins see every task, everyone else only the tasks assigned to them
+      const fetchedStats = isAdmin()
+        ? await taskStatsService.getStats()
+        : await taskStatsService.getMyStats();
+      setStats(fetchedStats);
+    } catch (err) {
+      setError('Failed to fetch task statistics');
+      console.error(err);
+    } finally {
+      setIsLoading(false);
+    }
+  };
+
+  const refreshTimer = useRef<ReturnType<typeof setTimeout> | null>(null);
+
+  useEffect(() => {
+    fetchStats();
+    // Live task changes trigger one refetch per burst rather than one per event
+    const unsubscribe = taskStreamService.subscribe(() => {
+      if (refreshTimer.current) {
+        return;
+      }
+      refreshTimer.current = setTimeout(() => {
+        refreshTimer.current = null;
+        fetchStats();
+      }, 1000);
+    });
+    return () => {
+      unsubscribe();
+      if (refreshTimer.current) {
+        clearTimeout(refreshTimer.current);
+      }
+    };
+  }, []);
+
+  return { stats, isLoading, error, fetchStats };
+}
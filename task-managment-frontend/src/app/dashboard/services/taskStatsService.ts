@@ -0,0 +1,14 @@
+import api from '@/app/common/utils/api';
+import { TaskStats } from '@/app/common/types';
+
+export const taskStatsService = {
+  getStats: async (): Promise<TaskStats> => {
+    const response = await api.get('/api/tasks/stats');
+    return response.data;
+  },
+
+  getMyStats: async (): Promise<TaskStats> => {
+    const response = await api.get('/api/tasks/stats/mine');
+    return response.data;
+  },
+};
@@ -0,0 +1,65 @@
+import { TaskStreamEvent, TaskStreamEventType } from '@/app/common/types';
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch
+export const taskStreamService = {
+  subscribe: (onEvent: (event: TaskStreamEvent) => void): (() => void) => {
+    const controller = new AbortController();
+
+    const read = async () => {
+      const response = await fetch(`${process.env.NEXT_PUBLIC_API_URL}/api/tasks/stream`, {
+        headers: {
+          Accept: 'text/event-stream',
+          Authorization: `Bearer ${localStorage.getItem('token')}`,
+        },
+        signal: controller.signal,
+      });
+      if (!response.ok || !response.body) {
+        throw new Error(`Task stream failed with status ${response.status}`);
+      }
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = '';
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) {
+          return;
+        }
+        buffer += value;
+        const messages = buffer.split('\n\n');
+        buffer = messages.pop() ?? '';
+        for (const message of messages) {
+          let type: string | null = null;
+          let data = '';
+          for (const line of message.split('\n')) {
+            if (line.startsWith('event:')) {
+              type = line.slice(6).trim();
+            } else if (line.startsWith('data:')) {
+              data += line.slice(5);
+            }
+          }
+          // Comments (heartbeats) carry neither an event name nor data
+          if (type && data) {
+            onEvent({ type: type as TaskStreamEventType, task: JSON.parse(data) });
+          }
+        }
+      }
+    };
+
+    const connect = () => {
+      read()
+        .catch((err) => {
+          if (!controller.signal.aborted) {
+            console.error(err);
+          }
+        })
+        .finally(() => {
+          // The server ends streams on timeout or when the client falls behind
+          if (!controller.signal.aborted) {
+            setTimeout(connect, 5000);
+          }
+        });
+    };
+    connect();
+
+    return () => controller.abort();
+  },
+};
@@ -0,0 +1,113 @@
+-- Query plans for GET /api/tasks/search against a 5M row tasks table.
+--
+-- Run against a scratch database after the service has created the schema:
+--   psql -d task_management -f benchmarks/task-search-plans.sql
+--
+-- Each EXPLAIN mirrors the SQL Hibernate issues for the first page of one filter
+-- combination (tasks left-joined to both users, ORDER BY <sort>, id,
+-- OFFSET page * size LIMIT size + 1). The search pages by offset, not by keyset:
+-- page n reads and discards n * size rows before the ones it returns, so the
+-- service refuses offsets beyond app.tasks.search.max-offset (10000 by default);
+-- the last EXPLAIN before the id-only query shows that deepest page.
+-- Expect an Index Scan / Bitmap Index Scan on the idx_tasks_* index named in the
+-- comment, not a Seq Scan on tasks. The search returns full rows, so plans show
+-- index scans with heap fetches; the id-only query at the end shows the
+-- Index Only Scan the same indexes allow once the table is vacuumed.
+
+\timing on
+
+BEGIN;
+
+INSERT INTO users (id, username, password, email)
+SELECT gen_random_uuid(), 'bench_user_' || g, 'x', 'bench_user_' || g || '@example.com'
+FROM generate_series(1, 1000) AS g;
+
+INSERT INTO tasks (id, title, description, status, priority, due_date, created_at, updated_at,
+                   assigned_user_id, created_by_user_id)
+SELECT gen_random_uuid(),
+       'Task ' || g,
+       'Benchmark task ' || g,
+       (ARRAY['TODO', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED'])[1 + g % 4],
+       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + (g / 3) % 3],
+       now() + (g % 365) * interval '1 day',
+       now() - (g % 100000) * interval '1 minute',
+       now(),
+       u.ids[1 + g % 1000],
+       u.ids[1 + (g * 7) % 1000]
+FROM generate_series(1, 5000000) AS g,
+     (SELECT array_agg(id) AS ids FROM users WHERE username LIKE 'bench_user_%') AS u;
+
+COMMIT;
+
+VACUUM ANALYZE users;
+VACUUM ANALYZE tasks;
+
+\set assignee '(SELECT id FROM users WHERE username = ''bench_user_42'')'
+
+-- assignee + status: idx_tasks_assignee_status_due
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.*, c.*
+FROM tasks t
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN users c ON c.id = t.created_by_user_id
+WHERE t.assigned_user_id = :assignee AND t.status = 'TODO'
+ORDER BY t.created_at, t.id
+LIMIT 51;
+
+-- assignee + status + due window: idx_tasks_assignee_status_due (range on due_date)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.*, c.*
+FROM tasks t
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN users c ON c.id = t.created_by_user_id
+WHERE t.assigned_user_id = :assignee
+  AND t.status IN ('TODO', 'IN_PROGRESS')
+  AND t.due_date >= now() AND t.due_date < now() + interval '30 days'
+ORDER BY t.due_date DESC, t.id
+LIMIT 51;
+
+-- creator + status: idx_tasks_creator_status_due
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.*, c.*
+FROM tasks t
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN users c ON c.id = t.created_by_user_id
+WHERE t.created_by_user_id = :assignee AND t.status = 'COMPLETED'
+ORDER BY t.created_at, t.id
+LIMIT 51;
+
+-- status + priority + due window: idx_tasks_status_priority_due
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.*, c.*
+FROM tasks t
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN users c ON c.id = t.created_by_user_id
+WHERE t.status = 'IN_PROGRESS' AND t.priority = 'HIGH'
+  AND t.due_date >= now() AND t.due_date < now() + interval '7 days'
+ORDER BY t.due_date, t.id
+LIMIT 51;
+
+-- no filters, default sort: idx_tasks_created_at_id
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.*, c.*
+FROM tasks t
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN users c ON c.id = t.created_by_user_id
+ORDER BY t.created_at, t.id
+LIMIT 51;
+
+-- deepest page allowed, default sort: idx_tasks_created_at_id, 10000 rows skipped
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.*, a.*, c.*
+FROM tasks t
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN users c ON c.id = t.created_by_user_id
+ORDER BY t.created_at, t.id
+OFFSET 10000
+LIMIT 51;
+
+-- covered columns only: Index Only Scan on idx_tasks_assignee_status_due
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.status, t.due_date
+FROM tasks t
+WHERE t.assigned_user_id = :assignee AND t.status = 'TODO';
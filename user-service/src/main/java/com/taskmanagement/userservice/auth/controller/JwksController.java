@@ -0,0 +1,31 @@
+package com.taskmanagement.userservice.auth.controller;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskmanagement.userservice.security.jwt.JwtKeyRing;
+
+@RestController
+public class JwksController {
+
+    // Short enough that verifiers pick up a newly listed key well before it signs
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final JwtKeyRing jwtKeyRing;
+
+    public JwksController(JwtKeyRing jwtKeyRing) {
+        this.jwtKeyRing = jwtKeyRing;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .body(jwtKeyRing.getPublicJwkSet().toJSONObject());
+    }
+}
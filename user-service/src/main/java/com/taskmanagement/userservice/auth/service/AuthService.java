@@ -13,6 +13,10 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import com.taskmanagement.userservice.auth.dto.LoginResponse;
+import com.taskmanagement.userservice.user.dto.UserResponse;
+import com.taskmanagement.userservice.user.model.User;
+
 @Service
 public class AuthService implements  IAuthService {
     
@@ -26,8 +30,22 @@ public class AuthService implements  IAuthService {
 
     @Override
     public String authenticateAndGetToken(String username, String password) {
-        Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
-        
+        return issueToken(authenticate(username, password));
+    }
+
+    @Override
+    public LoginResponse login(String username, String password) {
+        Authentication authentication = authenticate(username, password);
+        // The principal is the User that UserService.loadUserByUsername loaded, roles included
+        User user = (User) authentication.getPrincipal();
+        return new LoginResponse(issueToken(authentication), new UserResponse(user));
+    }
+
+    private Authentication authenticate(String username, String password) {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+    }
+
+    private String issueToken(Authentication authentication) {
         Instant now = Instant.now();
         String scope = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -1,5 +1,9 @@
 package com.taskmanagement.userservice.auth.service;
 
+import com.taskmanagement.userservice.auth.dto.LoginResponse;
+
 public interface IAuthService {
     String authenticateAndGetToken(String username, String password);
+
+    LoginResponse login(String username, String password);
 }
@@ -0,0 +1,114 @@
+package com.taskmanagement.userservice.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes the keys of changed entities to the other service instances over
+ * PostgreSQL {@code NOTIFY}. Keys published inside a transaction are collected and
+ * sent once, just before commit, so they are delivered only if the change commits.
+ * Outside a transaction they are sent immediately.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    public static final String TASKS = "tasks";
+    public static final String USERS = "users";
+
+    // PostgreSQL rejects payloads of 8000 bytes or more
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+            @Value("${app.cache.invalidation.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(String region, Object key) {
+        if (!enabled) {
+            return;
+        }
+        String entry = region + " " + key;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(entry));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> entries = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, entries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(entries);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = entries;
+        }
+        pending.add(entry);
+    }
+
+    private void send(Collection<String> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        for (String payload : toPayloads(nodeId, entries)) {
+            jdbcTemplate.queryForObject("select pg_notify(?, ?)", Object.class, CHANNEL, payload);
+        }
+        logger.debug("Published {} cache invalidations", entries.size());
+    }
+
+    /**
+     * Packs entries into as few payloads as fit the NOTIFY size limit. Each payload is
+     * the publishing node id followed by one {@code "<region> <key>"} entry per line.
+     */
+    static List<String> toPayloads(String nodeId, Collection<String> entries) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        int size = nodeId.length();
+        for (String entry : entries) {
+            int entrySize = entry.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (size + entrySize > MAX_PAYLOAD_BYTES && payload.length() > nodeId.length()) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(nodeId);
+                size = nodeId.length();
+            }
+            payload.append('\n').append(entry);
+            size += entrySize;
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskmanagement.userservice.cache;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.taskmanagement.userservice.config.CacheConfig;
+import com.taskmanagement.userservice.user.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Applies invalidations received from other instances to this node's caches.
+ */
+@Component
+public class CacheInvalidationHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationHandler.class);
+
+    private static final String USER_ROLES_ROLE = User.class.getName() + ".roles";
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final SessionFactory sessionFactory;
+
+    public CacheInvalidationHandler(ObjectProvider<CacheManager> cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public void evict(String region, String key) {
+        switch (region) {
+            case CacheInvalidationBus.TASKS -> {
+                Cache tasks = tasksCache();
+                if (tasks != null) {
+                    tasks.evict(UUID.fromString(key));
+                }
+            }
+            case CacheInvalidationBus.USERS -> {
+                UUID userId = UUID.fromString(key);
+                org.hibernate.Cache cache = sessionFactory.getCache();
+                cache.evictEntityData(User.class, userId);
+                cache.evictCollectionData(USER_ROLES_ROLE, userId);
+                // Natural ids cannot be evicted by entity id, and a username may have changed
+                cache.evictNaturalIdData(User.class);
+                // Cached tasks embed their assigned user and creator
+                clearTasks();
+            }
+            default -> logger.warn("Ignoring invalidation for unknown region {}", region);
+        }
+    }
+
+    /**
+     * Drops everything that could have been changed by another node, used when
+     * notifications may have been missed.
+     */
+    public void evictAll() {
+        clearTasks();
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(User.class);
+        cache.evictCollectionData(USER_ROLES_ROLE);
+        cache.evictNaturalIdData(User.class);
+    }
+
+    private void clearTasks() {
+        Cache tasks = tasksCache();
+        if (tasks != null) {
+            tasks.clear();
+        }
+    }
+
+    private Cache tasksCache() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        return manager != null ? manager.getCache(CacheConfig.TASKS_CACHE) : null;
+    }
+}
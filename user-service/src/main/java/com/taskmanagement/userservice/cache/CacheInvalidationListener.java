@@ -0,0 +1,160 @@
+package com.taskmanagement.userservice.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a dedicated connection listening on {@link CacheInvalidationBus#CHANNEL} and
+ * evicts local cache entries for changes published by other instances. After every
+ * (re)connect the local caches are cleared, because notifications sent while the
+ * connection was down are not replayed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    static final String APPLICATION_NAME = "cache-invalidation-listener";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheInvalidationBus bus;
+    private final CacheInvalidationHandler handler;
+    private final DataSourceProperties dataSourceProperties;
+    private final int pollMillis;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread thread;
+
+    public CacheInvalidationListener(CacheInvalidationBus bus, CacheInvalidationHandler handler,
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.cache.invalidation.poll-millis:5000}") int pollMillis,
+            @Value("${app.cache.invalidation.initial-backoff-millis:500}") long initialBackoffMillis,
+            @Value("${app.cache.invalidation.max-backoff-millis:30000}") long maxBackoffMillis) {
+        this.bus = bus;
+        this.handler = handler;
+        this.dataSourceProperties = dataSourceProperties;
+        this.pollMillis = pollMillis;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(pollMillis * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void listen() {
+        long backoff = initialBackoffMillis;
+        while (running) {
+            try (Connection connection = connect()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+                }
+                handler.evictAll();
+                connected = true;
+                backoff = initialBackoffMillis;
+                logger.info("Listening for cache invalidations on channel {}", CacheInvalidationBus.CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications == null || notifications.length == 0) {
+                        // A quiet channel and a dead socket look the same, so probe the connection
+                        if (!connection.isValid(5)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                connected = false;
+                if (!running) {
+                    break;
+                }
+                logger.warn("Cache invalidation listener disconnected, reconnecting in {} ms: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, maxBackoffMillis);
+            }
+        }
+        connected = false;
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        properties.setProperty("ApplicationName", APPLICATION_NAME);
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    /**
+     * Applies one payload written by {@link CacheInvalidationBus}, skipping those this node published itself.
+     */
+    void dispatch(String payload) {
+        String[] lines = payload.split("\n");
+        if (lines[0].equals(bus.getNodeId())) {
+            return;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            int separator = lines[i].indexOf(' ');
+            if (separator < 0) {
+                logger.warn("Ignoring malformed cache invalidation: {}", lines[i]);
+                continue;
+            }
+            try {
+                handler.evict(lines[i].substring(0, separator), lines[i].substring(separator + 1));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring malformed cache invalidation: {}", lines[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.userservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on the Caffeine-backed caches declared under {@code spring.cache.*}.
+ * Cache statistics are published as {@code cache.*} metrics through Actuator.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "app.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.userservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.taskmanagement.userservice.outbox.LoggingOutboxSink;
+import com.taskmanagement.userservice.outbox.OutboxSink;
+
+@Configuration
+public class OutboxConfig {
+
+    // Replaced by defining another OutboxSink bean, e.g. one that publishes to a broker
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink outboxSink() {
+        return new LoggingOutboxSink();
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.userservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.taskmanagement.userservice.reminder.LoggingReminderNotifier;
+import com.taskmanagement.userservice.reminder.ReminderNotifier;
+
+@Configuration
+public class ReminderConfig {
+
+    // Replaced by defining another ReminderNotifier bean, e.g. one that sends mail
+    @Bean
+    @ConditionalOnMissingBean(ReminderNotifier.class)
+    public ReminderNotifier reminderNotifier() {
+        return new LoggingReminderNotifier();
+    }
+}
@@ -5,15 +5,24 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.taskmanagement.userservice.security.password.PasswordHashingSaturatedException;
 import com.taskmanagement.userservice.task.dto.TaskResponse;
+import com.taskmanagement.userservice.task.exception.InvalidBulkRequestException;
+import com.taskmanagement.userservice.task.exception.InvalidCursorException;
+import com.taskmanagement.userservice.task.exception.InvalidSearchException;
+import com.taskmanagement.userservice.task.exception.TaskArchivedException;
+import com.taskmanagement.userservice.task.exception.TaskChangesExpiredException;
 import com.taskmanagement.userservice.task.exception.TaskNotFoundException;
+import com.taskmanagement.userservice.task.exception.TaskVersionMismatchException;
 import com.taskmanagement.userservice.user.dto.UserResponse;
 import com.taskmanagement.userservice.user.exception.UserAlreadyExistsException;
 import com.taskmanagement.userservice.user.exception.UserNotFoundException;
@@ -42,8 +51,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new UserResponse(ex.getMessage()));
     }
 
+    // Logins and sign-ups shed load instead of queueing behind password hashing
+    @ExceptionHandler(PasswordHashingSaturatedException.class)
+    public ResponseEntity<UserResponse> handlePasswordHashingSaturatedException(PasswordHashingSaturatedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(new UserResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(TaskNotFoundException.class)
     public ResponseEntity<TaskResponse> handleTaskNotFoundException(TaskNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new TaskResponse(ex.getMessage()));
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<TaskResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new TaskResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidSearchException.class)
+    public ResponseEntity<TaskResponse> handleInvalidSearchException(InvalidSearchException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new TaskResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<TaskResponse> handleTaskVersionMismatchException(TaskVersionMismatchException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new TaskResponse(ex.getMessage()));
+    }
+
+    // Two writes raced on the same version; the loser gets the same answer as a stale If-Match
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<TaskResponse> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new TaskResponse("Task was modified concurrently, reload and retry"));
+    }
+
+    // Archived tasks can still be read but no longer written
+    @ExceptionHandler(TaskArchivedException.class)
+    public ResponseEntity<TaskResponse> handleTaskArchivedException(TaskArchivedException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new TaskResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(TaskChangesExpiredException.class)
+    public ResponseEntity<TaskResponse> handleTaskChangesExpiredException(TaskChangesExpiredException ex) {
+        return ResponseEntity.status(HttpStatus.GONE).body(new TaskResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<TaskResponse> handleInvalidBulkRequestException(InvalidBulkRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new TaskResponse(ex.getMessage()));
+    }
 }
@@ -0,0 +1,22 @@
+package com.taskmanagement.userservice.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default sink until a broker is wired in: logs every event it is given.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            logger.debug("Outbox event {} {} {} {}", event.getId(), event.getEventType(), event.getAggregateId(),
+                    event.getPayload());
+        }
+    }
+}
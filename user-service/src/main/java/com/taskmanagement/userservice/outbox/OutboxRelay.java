@@ -0,0 +1,104 @@
+package com.taskmanagement.userservice.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Moves outbox events to the {@link OutboxSink} on the scheduler, never on a request
+ * thread. Each batch is locked with {@code SKIP LOCKED}, published and marked in one
+ * transaction, so concurrent relays on other nodes take disjoint batches. Full batches
+ * are followed by the next one immediately, which lets a burst drain at the speed of
+ * the sink rather than one batch per poll. Events are in id order within a node; across
+ * nodes consumers should not rely on order beyond the id they carry.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${app.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("Events published per relay batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from an event being written to it being published")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Relay batches that failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:PT0.5S}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.warn("Outbox relay failed, retrying on the next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes and marks at most one batch. Returns the number of events published.
+     */
+    public int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxRepository.lockUnpublished(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.publish(batch);
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), now);
+            batchSizes.record(batch.size());
+            batch.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+            return batch.size();
+        });
+        return published != null ? published : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.prune-interval:PT1H}",
+            initialDelayString = "${app.outbox.prune-interval:PT1H}")
+    public void prune() {
+        Integer pruned = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        logger.info("Pruned {} published outbox events older than {}", pruned, retention);
+    }
+}
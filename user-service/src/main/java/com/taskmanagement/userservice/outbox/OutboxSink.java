@@ -0,0 +1,14 @@
+package com.taskmanagement.userservice.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers outbox events to whatever other services consume them. Delivery is at least
+ * once: a batch whose publication throws, or whose transaction fails to commit after
+ * publishing, is offered again. Consumers deduplicate on {@link OutboxEvent#getId()}.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+
+}
@@ -0,0 +1,100 @@
+package com.taskmanagement.userservice.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.user.event.UserChangedEvent;
+
+/**
+ * Records task and user changes in the outbox as part of the transaction that makes
+ * them, so an event is relayed exactly when its change commits. Events of one
+ * transaction are inserted in a single JDBC batch just before commit; outside a
+ * transaction they are inserted immediately.
+ */
+@Component
+public class OutboxWriter {
+
+    public static final String TASK = "task";
+    public static final String USER = "user";
+
+    static final String INSERT_SQL = "insert into outbox_events"
+            + " (aggregate_type, aggregate_id, event_type, payload, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        append(TASK, event.getTaskId(), event.getType().name(), event);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        append(USER, event.getUserId(), event.getType().name(), event);
+    }
+
+    // Serialized right away: the payload must show the change as it was made
+    private void append(String aggregateType, UUID aggregateId, String type, Object payload) {
+        Object[] row = {aggregateType, aggregateId, aggregateType + "." + type.toLowerCase(Locale.ROOT),
+                toJson(payload), null};
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(Collections.singletonList(row));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> pending = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Object[]> rows = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, rows);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(rows);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                }
+            });
+            pending = rows;
+        }
+        pending.add(row);
+    }
+
+    private void write(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(row -> row[4] = now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
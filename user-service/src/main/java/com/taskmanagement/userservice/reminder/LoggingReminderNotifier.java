@@ -0,0 +1,18 @@
+package com.taskmanagement.userservice.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default notifier until mail or push delivery is wired in: logs every reminder.
+ */
+public class LoggingReminderNotifier implements ReminderNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderNotifier.class);
+
+    @Override
+    public void remind(TaskReminder reminder) {
+        logger.info("Task {} \"{}\" for user {} is due at {}", reminder.getTaskId(), reminder.getTitle(),
+                reminder.getAssignedUserId(), reminder.getDueDate().toInstant());
+    }
+}
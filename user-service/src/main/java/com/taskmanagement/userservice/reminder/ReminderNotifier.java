@@ -0,0 +1,12 @@
+package com.taskmanagement.userservice.reminder;
+
+/**
+ * Delivers due-date reminders. Called on the reminder thread, once per reminder and
+ * at most once per node; implementations that do slow I/O should hand off to their
+ * own executor so that later reminders are not held up.
+ */
+public interface ReminderNotifier {
+
+    void remind(TaskReminder reminder);
+
+}
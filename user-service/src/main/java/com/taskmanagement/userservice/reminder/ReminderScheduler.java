@@ -0,0 +1,328 @@
+package com.taskmanagement.userservice.reminder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.TaskChange;
+import com.taskmanagement.userservice.task.repository.TaskChangeRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends a reminder a configurable lead time before an open task is due. Pending
+ * reminders live in a {@link TimingWheel} indexed by task id, so every task change
+ * reschedules its reminder in O(1) and nothing polls the database for due tasks. On
+ * startup the wheel is filled from one streaming query; reminders whose time passed
+ * while the service was down are not sent late.
+ *
+ * <p>Changes committed on this instance reach the wheel straight from the event. Every
+ * instance also follows the shared task change log each tick and reloads the reminder
+ * state of the tasks it names, so tasks created, rescheduled, completed or deleted on
+ * other instances are picked up within a tick of being numbered. The schedule is thus
+ * complete on every instance; with several instances, enable reminders on one of them or
+ * have the notifier deduplicate on task id and due date.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    // Only tasks still being worked on are reminded of
+    static final Set<Status> OPEN_STATUSES = Collections.unmodifiableSet(EnumSet.of(Status.TODO, Status.IN_PROGRESS));
+
+    // Four levels of 256 slots cover 2^32 ticks, over a century at one-second ticks
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_LEVELS = 4;
+
+    // Reminders loaded per lock acquisition while rebuilding, so changes are not held up for long
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final long REBUILD_RETRY_MILLIS = 30_000;
+
+    // Change log rows read per query while following other instances' changes
+    private static final int FOLLOW_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeRepository changeRepository;
+    private final ReminderNotifier notifier;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final Duration lead;
+    private final TimingWheel<TaskReminder> wheel;
+    private final Map<UUID, TimingWheel.Timeout<TaskReminder>> pending = new HashMap<>();
+    // Due dates of reminders already sent, oldest first, kept until the task is due
+    private final LinkedHashMap<UUID, Date> sentDueDates = new LinkedHashMap<>();
+    private final Object lock = new Object();
+    private final Counter sent;
+    private final Counter failures;
+
+    // Tasks changed while a rebuild runs; their rows in the rebuild query may be stale
+    private Set<UUID> changedDuringRebuild;
+
+    // Last change log row applied; changes after it are followed every tick
+    private long cursor;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public ReminderScheduler(TaskRepository taskRepository, TaskChangeRepository changeRepository,
+            ReminderNotifier notifier,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.reminders.tick:PT1S}") Duration tick,
+            @Value("${app.reminders.lead:PT15M}") Duration lead) {
+        this.taskRepository = taskRepository;
+        this.changeRepository = changeRepository;
+        this.notifier = notifier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.tickMillis = tick.toMillis();
+        this.lead = lead;
+        this.wheel = new TimingWheel<>(WHEEL_BITS, WHEEL_LEVELS, Math.floorDiv(System.currentTimeMillis(), tickMillis));
+        Gauge.builder("tasks.reminders.pending", this, ReminderScheduler::pendingCount)
+                .description("Reminders scheduled and not yet sent")
+                .register(meterRegistry);
+        this.sent = Counter.builder("tasks.reminders.sent")
+                .description("Reminders handed to the notifier")
+                .register(meterRegistry);
+        this.failures = Counter.builder("tasks.reminders.failures")
+                .description("Reminders the notifier failed to deliver")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot after = event.getAfter();
+        synchronized (lock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.getTaskId());
+            }
+            refresh(event.getTaskId(), after != null && isOpenWithDueDate(after) ? TaskReminder.from(after) : null);
+        }
+    }
+
+    /**
+     * Applies the changes other instances (and this one) logged since the last call: each
+     * task named is reloaded and its reminder moved to match. Reloading makes it safe to
+     * see a change twice or after its event.
+     */
+    void followChanges() {
+        List<TaskChange> changes;
+        do {
+            changes = changeRepository.findAfter(cursor, Limit.of(FOLLOW_BATCH_SIZE));
+            if (changes.isEmpty()) {
+                return;
+            }
+            Set<UUID> taskIds = new HashSet<>();
+            changes.forEach(change -> taskIds.add(change.getTaskId()));
+            Map<UUID, TaskReminder> current = new HashMap<>();
+            taskRepository.findReminders(taskIds, OPEN_STATUSES)
+                    .forEach(reminder -> current.put(reminder.getTaskId(), reminder));
+            synchronized (lock) {
+                taskIds.forEach(taskId -> refresh(taskId, current.get(taskId)));
+            }
+            cursor = changes.get(changes.size() - 1).getSeq();
+        } while (changes.size() == FOLLOW_BATCH_SIZE);
+    }
+
+    /**
+     * Loads the reminders of all open tasks from the database. Reminders are only added
+     * for tasks that no change event has touched since the rebuild began.
+     */
+    void rebuild() {
+        synchronized (lock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        try {
+            // Taken first, so every change the query might have missed is followed afterwards
+            Long last = changeRepository.findLastSeq();
+            cursor = last != null ? last : 0L;
+            Date after = new Date(System.currentTimeMillis() + lead.toMillis());
+            int loaded = transactionTemplate.execute(status -> {
+                int count = 0;
+                try (Stream<TaskReminder> reminders = taskRepository.streamReminders(OPEN_STATUSES, after)) {
+                    Iterator<TaskReminder> iterator = reminders.iterator();
+                    List<TaskReminder> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                    while (iterator.hasNext()) {
+                        batch.add(iterator.next());
+                        if (batch.size() == REBUILD_BATCH_SIZE || !iterator.hasNext()) {
+                            count += load(batch);
+                            batch.clear();
+                        }
+                    }
+                }
+                return count;
+            });
+            logger.info("Loaded {} task reminders", loaded);
+        } finally {
+            synchronized (lock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Sends every reminder due at {@code nowMillis}. The notifier is called outside the
+     * lock, so task changes are never blocked behind delivery.
+     */
+    void sendDue(long nowMillis) {
+        List<TaskReminder> due = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advanceTo(Math.floorDiv(nowMillis, tickMillis), reminder -> {
+                pending.remove(reminder.getTaskId());
+                sentDueDates.remove(reminder.getTaskId());
+                sentDueDates.put(reminder.getTaskId(), reminder.getDueDate());
+                due.add(reminder);
+            });
+            // Roughly in due date order, so expired entries are found at the head
+            Iterator<Date> oldest = sentDueDates.values().iterator();
+            while (oldest.hasNext() && oldest.next().getTime() <= nowMillis) {
+                oldest.remove();
+            }
+        }
+        for (TaskReminder reminder : due) {
+            try {
+                notifier.remind(reminder);
+                sent.increment();
+            } catch (RuntimeException e) {
+                failures.increment();
+                logger.warn("Failed to send reminder for task {}: {}", reminder.getTaskId(), e.getMessage());
+            }
+        }
+    }
+
+    int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "task-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long rebuildAt = 0;
+        while (running) {
+            long now = System.currentTimeMillis();
+            if (rebuildAt >= 0 && now >= rebuildAt) {
+                try {
+                    rebuild();
+                    rebuildAt = -1;
+                } catch (RuntimeException e) {
+                    rebuildAt = now + REBUILD_RETRY_MILLIS;
+                    logger.warn("Failed to load task reminders, retrying in {} ms: {}", REBUILD_RETRY_MILLIS,
+                            e.getMessage());
+                }
+            }
+            if (rebuildAt < 0) {
+                try {
+                    followChanges();
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to follow task changes, retrying next tick: {}", e.getMessage());
+                }
+            }
+            sendDue(System.currentTimeMillis());
+            try {
+                // Wake up at the start of the next tick
+                Thread.sleep(tickMillis - Math.floorMod(System.currentTimeMillis(), tickMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private int load(List<TaskReminder> reminders) {
+        int loaded = 0;
+        synchronized (lock) {
+            for (TaskReminder reminder : reminders) {
+                if (!changedDuringRebuild.contains(reminder.getTaskId()) && !pending.containsKey(reminder.getTaskId())) {
+                    schedule(reminder);
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // Called with the lock held. A reminder is due again whenever the due date changes;
+    // nothing pending for a due date already reminded of means it has been sent.
+    private void refresh(UUID taskId, TaskReminder current) {
+        TimingWheel.Timeout<TaskReminder> previous = pending.remove(taskId);
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+        if (current == null || !current.getDueDate().after(new Date())) {
+            return;
+        }
+        if (previous == null && current.getDueDate().equals(sentDueDates.get(taskId))) {
+            return;
+        }
+        schedule(current);
+    }
+
+    // Called with the lock held
+    private void schedule(TaskReminder reminder) {
+        long remindAt = reminder.getDueDate().getTime() - lead.toMillis();
+        // Rounded up, so a reminder is never sent before its time
+        long deadline = Math.floorDiv(remindAt + tickMillis - 1, tickMillis);
+        pending.put(reminder.getTaskId(), wheel.schedule(reminder, deadline));
+    }
+
+    private static boolean isOpenWithDueDate(TaskSnapshot task) {
+        return task.getDueDate() != null && OPEN_STATUSES.contains(task.getStatus());
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.userservice.reminder;
+
+import java.util.Date;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+
+/**
+ * What a reminder tells its recipient: which task is coming due, when, and for whom.
+ */
+public final class TaskReminder {
+
+    private final UUID taskId;
+    private final String title;
+    private final UUID assignedUserId;
+    private final Date dueDate;
+
+    public TaskReminder(UUID taskId, String title, UUID assignedUserId, Date dueDate) {
+        this.taskId = taskId;
+        this.title = title;
+        this.assignedUserId = assignedUserId;
+        this.dueDate = dueDate;
+    }
+
+    public static TaskReminder from(TaskSnapshot task) {
+        return new TaskReminder(task.getId(), task.getTitle(), task.getAssignedUserId(), task.getDueDate());
+    }
+
+    // Getters
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public Date getDueDate() {
+        return dueDate;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskReminder{"
+                + "taskId=" + taskId
+                + ", assignedUserId=" + assignedUserId
+                + ", dueDate=" + dueDate
+                + '}';
+    }
+}
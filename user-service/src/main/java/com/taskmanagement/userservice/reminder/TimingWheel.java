@@ -0,0 +1,194 @@
+package com.taskmanagement.userservice.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel over integer ticks. Each level has {@code 2^bits} slots;
+ * a slot on level {@code n} spans {@code 2^(bits*n)} ticks. Timeouts are kept in
+ * doubly linked slot lists, so scheduling and cancelling are O(1). Advancing one tick
+ * expires one level-0 slot, and whenever a level wraps the next slot of the level
+ * above is cascaded down, which spreads the cost of far deadlines over their lifetime.
+ * Deadlines beyond the top level's range are clamped to it and re-sorted on cascade.
+ *
+ * <p>Not thread-safe; callers serialize access.
+ */
+public class TimingWheel<T> {
+
+    /**
+     * Handle for a scheduled value, used to cancel it.
+     */
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadline;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private Slot<T> slot;
+
+        private Timeout(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isPending() {
+            return slot != null;
+        }
+    }
+
+    private static final class Slot<T> {
+
+        private Timeout<T> head;
+
+        private void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        // Empties the slot and returns its former contents as a list linked through next
+        private Timeout<T> detach() {
+            Timeout<T> detached = head;
+            head = null;
+            return detached;
+        }
+    }
+
+    private final int bits;
+    private final int mask;
+    private final Slot<T>[][] levels;
+    private final long range;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int bits, int levelCount, long startTick) {
+        if (bits < 1 || levelCount < 1 || (long) bits * levelCount > 62) {
+            throw new IllegalArgumentException("Unsupported wheel shape: " + levelCount + " levels of 2^" + bits);
+        }
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = new Slot[levelCount][1 << bits];
+        for (Slot<T>[] level : levels) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+        this.range = 1L << (bits * levelCount);
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules a value to expire at the given tick. Deadlines that have already passed
+     * expire on the next call to {@link #advanceTo}.
+     */
+    public Timeout<T> schedule(T value, long deadline) {
+        Timeout<T> timeout = new Timeout<>(value, deadline);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending timeout. Returns false if it already expired or was cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to {@code tick}, handing every value whose deadline is
+     * at or before it to {@code expired} in deadline order, tick by tick.
+     */
+    public void advanceTo(long tick, Consumer<T> expired) {
+        while (currentTick <= tick) {
+            cascade();
+            Slot<T> slot = levels[0][(int) (currentTick & mask)];
+            Timeout<T> timeout = slot.detach();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadline > currentTick) {
+                    // Clamped beyond the wheel's range and not due yet
+                    place(timeout);
+                } else {
+                    timeout.slot = null;
+                    timeout.prev = null;
+                    timeout.next = null;
+                    size--;
+                    expired.accept(timeout.value);
+                }
+                timeout = next;
+            }
+            currentTick++;
+        }
+    }
+
+    // The next tick the wheel will process
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // When the lower levels have wrapped, redistributes the current slot of each level above
+    private void cascade() {
+        for (int level = 1; level < levels.length; level++) {
+            if ((currentTick & ((1L << (bits * level)) - 1)) != 0) {
+                return;
+            }
+            Timeout<T> timeout = levels[level][(int) ((currentTick >>> (bits * level)) & mask)].detach();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadline - currentTick;
+        if (delta < 0) {
+            levels[0][(int) (currentTick & mask)].add(timeout);
+            return;
+        }
+        long target = delta < range ? timeout.deadline : currentTick + range - 1;
+        delta = target - currentTick;
+        int level = 0;
+        while (level < levels.length - 1 && delta >= (1L << (bits * (level + 1)))) {
+            level++;
+        }
+        levels[level][(int) ((target >>> (bits * level)) & mask)].add(timeout);
+    }
+}
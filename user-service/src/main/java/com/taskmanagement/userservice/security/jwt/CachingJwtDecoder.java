@@ -0,0 +1,103 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers tokens the delegate has already verified, so a client that sends the same
+ * token on every request pays for parsing and the signature check once. Entries are
+ * keyed by the SHA-256 of the token and live until the token's {@code exp}; tokens
+ * without one, and tokens that fail verification, are never kept. Concurrent first
+ * uses of one token share a single verification.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    static final String CACHE_NAME = "jwt.decoder";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiry(ticker))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        return cache.get(digest(token), key -> delegate.decode(token));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        return HexFormat.of().formatHex(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // Expires each entry at its token's exp, measured against the cache's ticker
+    private static final class UntilExpiry implements Expiry<String, Jwt> {
+
+        // Maps ticker time onto wall-clock time
+        private final long offsetNanos;
+
+        private UntilExpiry(Ticker ticker) {
+            this.offsetNanos = Duration.between(Instant.EPOCH, Instant.now()).toNanos() - ticker.read();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return 0;
+            }
+            long remaining = Duration.between(Instant.EPOCH, expiresAt).toNanos() - (currentTime + offsetNanos);
+            return Math.max(0, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.JWTProcessor;
+
+/**
+ * The keys tokens are signed and verified with. Every key verifies, and is published at
+ * {@code /.well-known/jwks.json}; new tokens are signed by the first key of the
+ * configured algorithm (RS256, ES256 or EdDSA) and carry its {@code kid}, which
+ * verification uses to pick the key. Kids are RFC 7638 thumbprints, so every node
+ * derives the same ones from the same key material.
+ *
+ * <p>To rotate without downtime, list the new key after the current one and deploy, so
+ * every node can verify it; then list it first and deploy again. The old key can go once
+ * the tokens it signed have expired.
+ */
+public class JwtKeyRing {
+
+    private static final Pattern PEM_BLOCK = Pattern.compile(
+            "-----BEGIN (PRIVATE|PUBLIC) KEY-----([^-]+)-----END \\1 KEY-----");
+
+    private static final String[] KEY_ALGORITHMS = {"RSA", "EC", "Ed25519"};
+
+    private final List<JWK> keys;
+    private final JWK signingKey;
+
+    public JwtKeyRing(List<JWK> keys, String algorithm) {
+        this.keys = List.copyOf(keys);
+        this.signingKey = keys.stream()
+                .filter(key -> key.getAlgorithm().getName().equals(algorithm))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No JWT signing key for algorithm " + algorithm));
+    }
+
+    /**
+     * Reads a key from PEM text holding its PKCS#8 {@code PRIVATE KEY} block and X.509
+     * {@code PUBLIC KEY} block, in either order. RSA keys sign RS256, P-256 keys ES256 and
+     * Ed25519 keys EdDSA.
+     */
+    public static JWK fromPem(String pem) throws GeneralSecurityException {
+        byte[] privateKey = null;
+        byte[] publicKey = null;
+        Matcher matcher = PEM_BLOCK.matcher(pem);
+        while (matcher.find()) {
+            byte[] der = Base64.getMimeDecoder().decode(matcher.group(2).strip());
+            if (matcher.group(1).equals("PRIVATE")) {
+                privateKey = der;
+            } else {
+                publicKey = der;
+            }
+        }
+        if (privateKey == null || publicKey == null) {
+            throw new InvalidKeySpecException("Expected a PRIVATE KEY and a PUBLIC KEY block");
+        }
+        for (String keyAlgorithm : KEY_ALGORITHMS) {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+            try {
+                return toJwk(new KeyPair(keyFactory.generatePublic(new X509EncodedKeySpec(publicKey)),
+                        keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKey))));
+            } catch (InvalidKeySpecException e) {
+                // Not this key type; try the next one
+            }
+        }
+        throw new InvalidKeySpecException("Unsupported key type; expected RSA, EC P-256 or Ed25519");
+    }
+
+    public static JWK toJwk(KeyPair keyPair) throws GeneralSecurityException {
+        PublicKey publicKey = keyPair.getPublic();
+        PrivateKey privateKey = keyPair.getPrivate();
+        try {
+            if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+                return new RSAKey.Builder(rsaPublicKey)
+                        .privateKey((RSAPrivateKey) privateKey)
+                        .algorithm(JWSAlgorithm.RS256)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            }
+            if (publicKey instanceof ECPublicKey ecPublicKey
+                    && Curve.forECParameterSpec(ecPublicKey.getParams()) == Curve.P_256) {
+                return new ECKey.Builder(Curve.P_256, ecPublicKey)
+                        .privateKey((ECPrivateKey) privateKey)
+                        .algorithm(JWSAlgorithm.ES256)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            }
+            if (publicKey instanceof EdECPublicKey edPublicKey
+                    && edPublicKey.getParams().getName().equals(NamedParameterSpec.ED25519.getName())) {
+                // The raw public key is the last 32 bytes of its X.509 encoding
+                byte[] encoded = publicKey.getEncoded();
+                byte[] x = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+                byte[] d = ((EdECPrivateKey) privateKey).getBytes()
+                        .orElseThrow(() -> new InvalidKeySpecException("Ed25519 private key is not extractable"));
+                return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x))
+                        .d(Base64URL.encode(d))
+                        .algorithm(JWSAlgorithm.EdDSA)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            }
+        } catch (JOSEException e) {
+            throw new GeneralSecurityException("Could not compute key thumbprint", e);
+        }
+        throw new InvalidKeySpecException("Unsupported key type " + publicKey.getAlgorithm());
+    }
+
+    /**
+     * Encoder for new tokens, signed by the signing key with its algorithm and kid in the
+     * header. Spring's NimbusJwtEncoder cannot select Ed25519 keys, and with one signing
+     * key there is nothing to select, so tokens are signed here directly.
+     */
+    public JwtEncoder newEncoder() {
+        JWSSigner signer;
+        try {
+            signer = new DefaultJWSSignerFactory().createJWSSigner(signingKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot sign with JWT key " + signingKey.getKeyID(), e);
+        }
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.parse(signingKey.getAlgorithm().getName()))
+                .keyID(signingKey.getKeyID())
+                .build();
+        Map<String, Object> headers = header.toJSONObject();
+        return parameters -> {
+            if (parameters.getJwsHeader() != null) {
+                throw new JwtEncodingException("Tokens carry the key ring's JWS header; custom headers are not supported");
+            }
+            JwtClaimsSet claims = parameters.getClaims();
+            JWTClaimsSet.Builder claimsSet = new JWTClaimsSet.Builder();
+            claims.getClaims().forEach((name, value) -> claimsSet.claim(name, value instanceof Instant instant
+                    ? Date.from(instant)
+                    : value instanceof URL url ? url.toExternalForm() : value));
+            SignedJWT jwt = new SignedJWT(header, claimsSet.build());
+            try {
+                jwt.sign(signer);
+            } catch (JOSEException e) {
+                throw new JwtEncodingException("Failed to sign the JWT", e);
+            }
+            return new Jwt(jwt.serialize(), claims.getIssuedAt(), claims.getExpiresAt(), headers, claims.getClaims());
+        };
+    }
+
+    /**
+     * Decoder accepting tokens signed by any key in the ring, chosen by kid when the
+     * token carries one; tokens without a kid are tried against every key of their
+     * algorithm. Nimbus's key selectors go through JCA keys, which Ed25519 JWKs cannot
+     * be exported to, so the ring verifies with its own verifier per key.
+     */
+    public JwtDecoder newDecoder() {
+        Map<String, JWSVerifier> verifiers = new HashMap<>();
+        for (JWK key : keys) {
+            try {
+                verifiers.put(key.getKeyID(), newVerifier(key));
+            } catch (JOSEException e) {
+                throw new IllegalStateException("Cannot verify with JWT key " + key.getKeyID(), e);
+            }
+        }
+        return new NimbusJwtDecoder(new KeyRingJwtProcessor(verifiers));
+    }
+
+    public JWK getSigningKey() {
+        return signingKey;
+    }
+
+    public List<JWK> getKeys() {
+        return keys;
+    }
+
+    // Public halves only, for the JWKS endpoint
+    public JWKSet getPublicJwkSet() {
+        return new JWKSet(keys).toPublicJWKSet();
+    }
+
+    private static JWSVerifier newVerifier(JWK key) throws JOSEException {
+        if (key instanceof RSAKey rsaKey) {
+            return new RSASSAVerifier(rsaKey);
+        }
+        if (key instanceof ECKey ecKey) {
+            return new ECDSAVerifier(ecKey);
+        }
+        return new Ed25519Verifier(((OctetKeyPair) key).toPublicJWK());
+    }
+
+    private final class KeyRingJwtProcessor implements JWTProcessor<SecurityContext> {
+
+        private final Map<String, JWSVerifier> verifiers;
+
+        KeyRingJwtProcessor(Map<String, JWSVerifier> verifiers) {
+            this.verifiers = verifiers;
+        }
+
+        @Override
+        public JWTClaimsSet process(String jwt, SecurityContext context)
+                throws ParseException, BadJOSEException, JOSEException {
+            return process(JWTParser.parse(jwt), context);
+        }
+
+        @Override
+        public JWTClaimsSet process(JWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+            if (jwt instanceof SignedJWT signedJwt) {
+                return process(signedJwt, context);
+            }
+            throw new BadJOSEException("Unsigned JWT rejected");
+        }
+
+        @Override
+        public JWTClaimsSet process(PlainJWT jwt, SecurityContext context) throws BadJOSEException {
+            throw new BadJOSEException("Unsigned JWT rejected");
+        }
+
+        @Override
+        public JWTClaimsSet process(SignedJWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+            JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
+            String keyId = jwt.getHeader().getKeyID();
+            for (JWK key : keys) {
+                if ((keyId == null || keyId.equals(key.getKeyID())) && algorithm.equals(key.getAlgorithm())
+                        && jwt.verify(verifiers.get(key.getKeyID()))) {
+                    try {
+                        return jwt.getJWTClaimsSet();
+                    } catch (ParseException e) {
+                        throw new BadJWTException("Payload of JWS object is not a valid JSON object", e);
+                    }
+                }
+            }
+            throw new BadJOSEException("Signed JWT rejected: no matching key or invalid signature");
+        }
+
+        @Override
+        public JWTClaimsSet process(EncryptedJWT jwt, SecurityContext context) throws BadJOSEException {
+            throw new BadJOSEException("Encrypted JWT rejected");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.taskmanagement.userservice.user.model.Role;
+
+/**
+ * Maps the {@code roles} claim to authorities on every authenticated request. The claim
+ * is a space-separated string ("ROLE_USER ROLE_ADMIN") or a list, naming roles with or
+ * without the {@code ROLE_} prefix. Since {@link Role} is a small closed set, the
+ * authority list for every combination of roles is built once and shared; names are
+ * matched in place, without splitting the claim. Names that are not a {@link Role} are
+ * still granted, on a slower path that allocates.
+ */
+public class RoleAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleAuthoritiesConverter.class);
+
+    static final String ROLES_CLAIM = "roles";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private static final Role[] ROLES = Role.values();
+
+    // Immutable authority lists indexed by a bit mask of role ordinals
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_ROLES = new ArrayList<>(1 << ROLES.length);
+
+    static {
+        for (int mask = 0; mask < 1 << ROLES.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    authorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + role.name()));
+                }
+            }
+            AUTHORITIES_BY_ROLES.add(List.copyOf(authorities));
+        }
+    }
+
+    private final int debugSample;
+
+    /**
+     * @param debugSample log one in this many conversions at DEBUG; 0 never logs
+     */
+    public RoleAuthoritiesConverter(int debugSample) {
+        this.debugSample = debugSample;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        Collection<GrantedAuthority> authorities = toAuthorities(jwt.getClaims().get(ROLES_CLAIM));
+        if (debugSample > 0 && logger.isDebugEnabled() && ThreadLocalRandom.current().nextInt(debugSample) == 0) {
+            logger.debug("Authenticated {} with authorities {} (sampled 1 in {})", jwt.getSubject(), authorities,
+                    debugSample);
+        }
+        return authorities;
+    }
+
+    static Collection<GrantedAuthority> toAuthorities(Object claim) {
+        int mask = 0;
+        if (claim instanceof String roles) {
+            int start = 0;
+            while (start < roles.length()) {
+                int end = roles.indexOf(' ', start);
+                if (end < 0) {
+                    end = roles.length();
+                }
+                if (end > start) {
+                    int ordinal = roleOrdinal(roles, start, end);
+                    if (ordinal < 0) {
+                        return toAuthoritiesSlowly(List.of(roles.split(" ")));
+                    }
+                    mask |= 1 << ordinal;
+                }
+                start = end + 1;
+            }
+        } else if (claim instanceof Collection<?> roles) {
+            for (Object role : roles) {
+                String name = String.valueOf(role);
+                int ordinal = roleOrdinal(name, 0, name.length());
+                if (ordinal < 0) {
+                    return toAuthoritiesSlowly(roles);
+                }
+                mask |= 1 << ordinal;
+            }
+        }
+        return AUTHORITIES_BY_ROLES.get(mask);
+    }
+
+    // Ordinal of the role named by roles[start, end), prefixed or not, or -1 if there is none
+    private static int roleOrdinal(String roles, int start, int end) {
+        int offset = roles.startsWith(ROLE_PREFIX, start) ? start + ROLE_PREFIX.length() : start;
+        int length = end - offset;
+        for (Role role : ROLES) {
+            String name = role.name();
+            if (name.length() == length && roles.regionMatches(offset, name, 0, length)) {
+                return role.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    private static Collection<GrantedAuthority> toAuthoritiesSlowly(Collection<?> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Object role : roles) {
+            String name = String.valueOf(role);
+            if (!name.isEmpty()) {
+                authorities.add(new SimpleGrantedAuthority(name.startsWith(ROLE_PREFIX) ? name : ROLE_PREFIX + name));
+            }
+        }
+        return authorities;
+    }
+}
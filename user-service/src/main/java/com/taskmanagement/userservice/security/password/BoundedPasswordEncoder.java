@@ -0,0 +1,136 @@
+package com.taskmanagement.userservice.security.password;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs the delegate's hashing and verification on a small pool of its own with a
+ * bounded queue, so a burst of logins uses at most that many cores and cannot tie up
+ * every request thread. When the queue is full, or a hash has not started within the
+ * maximum wait, the caller gets a {@link PasswordHashingSaturatedException} instead of
+ * queueing behind the burst, and the abandoned hash never runs. The wait does not cover
+ * the hash itself: once started, a hash runs to completion however slow the host is.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait,
+            Duration retryAfter, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("auth.password.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes in progress")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.wait")
+                .description("Time a password hash waited for a hashing thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Password hashes refused because hashing was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only inspects the stored hash's cost factor; cheap enough for the caller's thread
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // Called by Spring when the context closes
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long submittedAt = System.nanoTime();
+        // Whoever sets this first decides: the pool thread starting the hash, or the caller giving up
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            throw saturated();
+        }
+        try {
+            try {
+                return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    // Still queued: it is skipped when a thread reaches it
+                    throw saturated();
+                }
+                // The wait only bounds queueing; a hash that has started is allowed to finish
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            claimed.set(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private PasswordHashingSaturatedException saturated() {
+        rejected.increment();
+        return new PasswordHashingSaturatedException("Too many password checks in progress, retry later", retryAfter);
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.userservice.security.password;
+
+import java.time.Duration;
+
+public class PasswordHashingSaturatedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingSaturatedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
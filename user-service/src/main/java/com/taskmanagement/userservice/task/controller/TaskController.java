@@ -1,33 +1,76 @@
 package com.taskmanagement.userservice.task.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.userservice.task.dto.BulkTaskMutationRequest;
+import com.taskmanagement.userservice.task.dto.BulkTaskMutationResponse;
+import com.taskmanagement.userservice.task.dto.BulkTaskResponse;
+import com.taskmanagement.userservice.task.dto.BulkTaskResult;
+import com.taskmanagement.userservice.task.dto.TaskChangesResponse;
+import com.taskmanagement.userservice.task.dto.TaskCursor;
+import com.taskmanagement.userservice.task.dto.TaskHistoryResponse;
+import com.taskmanagement.userservice.task.dto.TaskPageResponse;
+import com.taskmanagement.userservice.task.dto.TaskPatch;
 import com.taskmanagement.userservice.task.dto.TaskRequest;
 import com.taskmanagement.userservice.task.dto.TaskResponse;
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.dto.TaskStatsResponse;
+import com.taskmanagement.userservice.task.exception.InvalidBulkRequestException;
+import com.taskmanagement.userservice.task.exception.InvalidSearchException;
 import com.taskmanagement.userservice.task.exception.TaskNotFoundException;
+import com.taskmanagement.userservice.task.model.Status;
 import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.service.ITaskAuditService;
+import com.taskmanagement.userservice.task.service.ITaskChangeService;
 import com.taskmanagement.userservice.task.service.ITaskService;
+import com.taskmanagement.userservice.task.service.ITaskStatsService;
+import com.taskmanagement.userservice.task.service.ITaskStreamService;
 import com.taskmanagement.userservice.user.exception.UserNotFoundException;
+import com.taskmanagement.userservice.user.model.User;
 import com.taskmanagement.userservice.user.service.IUserService;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -35,12 +78,44 @@ public class TaskController {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // Only properties covered by an index (or cheap to sort on a filtered set) may be used for sorting
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "dueDate");
+
     private final ITaskService taskService;
+    private final ITaskStatsService taskStatsService;
+    private final ITaskChangeService taskChangeService;
+    private final ITaskStreamService taskStreamService;
+    private final ITaskAuditService taskAuditService;
     private final IUserService userService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBulkSize;
+    private final long maxSearchOffset;
 
-    public TaskController(ITaskService taskService, IUserService userService) {
+    public TaskController(ITaskService taskService, ITaskStatsService taskStatsService,
+            ITaskChangeService taskChangeService, ITaskStreamService taskStreamService,
+            ITaskAuditService taskAuditService, IUserService userService,
+            ObjectMapper objectMapper, Validator validator,
+            @Value("${app.tasks.page.default-size:50}") int defaultPageSize,
+            @Value("${app.tasks.page.max-size:500}") int maxPageSize,
+            @Value("${app.tasks.bulk.max-size:10000}") int maxBulkSize,
+            @Value("${app.tasks.search.max-offset:10000}") long maxSearchOffset) {
         this.taskService = taskService;
+        this.taskStatsService = taskStatsService;
+        this.taskChangeService = taskChangeService;
+        this.taskStreamService = taskStreamService;
+        this.taskAuditService = taskAuditService;
         this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBulkSize = maxBulkSize;
+        this.maxSearchOffset = maxSearchOffset;
     }
 
     @PostMapping
@@ -53,18 +128,126 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(new TaskResponse(createdTask));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskResponse> createTasks(@RequestBody List<TaskRequest> taskRequests) {
+        logger.info("Received request to create {} tasks", taskRequests.size());
+        if (taskRequests.isEmpty() || taskRequests.size() > maxBulkSize) {
+            throw new InvalidBulkRequestException("Between 1 and " + maxBulkSize + " tasks can be created at once");
+        }
+        // Items are validated one by one so that a bad item is reported instead of failing the request
+        BulkTaskResult[] results = new BulkTaskResult[taskRequests.size()];
+        List<Task> tasks = new ArrayList<>(taskRequests.size());
+        List<Integer> positions = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskRequest taskRequest = taskRequests.get(i);
+            if (taskRequest == null) {
+                results[i] = BulkTaskResult.invalid(List.of("Task is required"));
+                continue;
+            }
+            List<String> errors = validator.validate(taskRequest).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.toList());
+            if (!errors.isEmpty()) {
+                results[i] = BulkTaskResult.invalid(errors);
+                continue;
+            }
+            tasks.add(convertToUnresolvedTask(taskRequest));
+            positions.add(i);
+        }
+        List<BulkTaskResult> created = tasks.isEmpty() ? List.of() : taskService.createTasks(tasks);
+        for (int i = 0; i < created.size(); i++) {
+            results[positions.get(i)] = created.get(i);
+        }
+        BulkTaskResponse response = new BulkTaskResponse(Arrays.asList(results));
+        logger.info("Bulk request created {} tasks, rejected {}", response.getCreated(), response.getRejected());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskMutationResponse> changeStatus(@RequestBody BulkTaskMutationRequest request) {
+        logger.info("Received request to change status of tasks: {}", request);
+        if (request.getStatus() == null) {
+            throw new InvalidBulkRequestException("Status is required");
+        }
+        int affected = taskService.changeStatus(toSelection(request), request.getStatus(), maxBulkSize);
+        logger.info("Changed status of {} tasks to {}", affected, request.getStatus());
+        return ResponseEntity.ok(new BulkTaskMutationResponse(affected));
+    }
+
+    @PostMapping("/bulk/assignee")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskMutationResponse> reassignTasks(@RequestBody BulkTaskMutationRequest request) {
+        logger.info("Received request to reassign tasks: {}", request);
+        if (request.getAssignedUserId() == null) {
+            throw new InvalidBulkRequestException("Assigned User ID is required");
+        }
+        int affected = taskService.reassignTasks(toSelection(request), request.getAssignedUserId(), maxBulkSize);
+        logger.info("Reassigned {} tasks to {}", affected, request.getAssignedUserId());
+        return ResponseEntity.ok(new BulkTaskMutationResponse(affected));
+    }
+
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskMutationResponse> deleteTasks(@RequestBody BulkTaskMutationRequest request) {
+        logger.info("Received request to delete tasks: {}", request);
+        int affected = taskService.deleteTasks(toSelection(request), maxBulkSize);
+        logger.info("Deleted {} tasks", affected);
+        return ResponseEntity.ok(new BulkTaskMutationResponse(affected));
+    }
+
+    // Exactly one of ids and filter selects the tasks; an empty filter would select all of them
+    private TaskSearchCriteria toSelection(BulkTaskMutationRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getFilter() != null && !request.getFilter().isEmpty();
+        if (hasIds == hasFilter) {
+            throw new InvalidBulkRequestException("Either ids or a non-empty filter is required");
+        }
+        if (hasIds) {
+            if (request.getIds().size() > maxBulkSize) {
+                throw new InvalidBulkRequestException("At most " + maxBulkSize + " ids can be given at once");
+            }
+            TaskSearchCriteria criteria = new TaskSearchCriteria();
+            criteria.setIds(request.getIds());
+            return criteria;
+        }
+        TaskSearchCriteria filter = request.getFilter();
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().after(filter.getDueTo())) {
+            throw new InvalidBulkRequestException("dueFrom must not be after dueTo");
+        }
+        return filter;
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and @taskService.isTaskAssignedToUser(authentication.name, #id))")
-    public ResponseEntity<TaskResponse> updateTask(@PathVariable UUID id, @Valid @RequestBody TaskRequest taskRequest) {
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable UUID id, @Valid @RequestBody TaskRequest taskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         logger.info("Received request to update task with ID: {}", id);
+        Long expectedVersion = TaskETags.versionOf(ifMatch);
         Task task = convertToTask(taskRequest);
-        Task updatedTask = taskService.updateTask(id, task);
+        Task updatedTask = taskService.updateTask(id, task, expectedVersion);
         if (updatedTask == null) {
             logger.warn("Task with ID: {} not found", id);
             return ResponseEntity.notFound().build();
         }
         logger.info("Task updated successfully with ID: {}", id);
-        return ResponseEntity.ok(new TaskResponse(updatedTask));
+        return ResponseEntity.ok().eTag(TaskETags.of(updatedTask)).body(new TaskResponse(updatedTask));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and @taskService.isTaskAssignedToUser(authentication.name, #id))")
+    public ResponseEntity<TaskResponse> patchTask(@PathVariable UUID id, @Valid @RequestBody TaskPatch patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("Received request to patch task with ID: {} fields {}", id, patch);
+        Task patchedTask = taskService.patchTask(id, patch, TaskETags.versionOf(ifMatch));
+        if (patchedTask == null) {
+            logger.warn("Task with ID: {} not found", id);
+            return ResponseEntity.notFound().build();
+        }
+        logger.info("Task patched successfully with ID: {}", id);
+        return ResponseEntity.ok().eTag(TaskETags.of(patchedTask)).body(new TaskResponse(patchedTask));
     }
 
     @DeleteMapping("/{id}")
@@ -83,18 +266,34 @@ public class TaskController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and @taskService.isTaskAssignedToUser(authentication.name, #id))")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id, WebRequest request) {
         logger.info("Received request to get task with ID: {}", id);
         return taskService.getTaskById(id)
-                .map(task -> ResponseEntity.ok(new TaskResponse(task)))
+                .map(task -> {
+                    String etag = TaskETags.of(task);
+                    if (request.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<TaskResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(new TaskResponse(task));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @GetMapping
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('USER') and @taskService.isTaskAssignedToUser(authentication.name, #id))")
+    public ResponseEntity<TaskHistoryResponse> getTaskHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        logger.info("Received request to get history of task with ID: {} (cursor={}, size={})", id, cursor, size);
+        return ResponseEntity.ok(taskAuditService.getHistory(id, cursor, resolvePageSize(size)));
+    }
+
+    @GetMapping(params = {"!cursor", "!size"})
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        logger.info("Received request to get all tasks");
-        List<Task> tasks = taskService.getAllTasks();
+    public ResponseEntity<List<TaskResponse>> getAllTasks(@RequestParam(defaultValue = "false") boolean includeArchived) {
+        logger.info("Received request to get all tasks (includeArchived={})", includeArchived);
+        List<Task> tasks = taskService.getAllTasks(includeArchived);
         List<TaskResponse> taskResponses = tasks.stream()
                 .map(TaskResponse::new)
                 .collect(Collectors.toList());
@@ -102,6 +301,178 @@ public class TaskController {
         return ResponseEntity.ok(taskResponses);
     }
 
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskPageResponse> getTasksPage(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeArchived, WebRequest request) {
+        int pageSize = resolvePageSize(size);
+        logger.info("Received request to get tasks page of size {} (includeArchived={})", pageSize, includeArchived);
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        // Fetch one extra row to find out whether another page exists
+        List<Task> tasks = taskService.getTasksAfter(after, pageSize + 1, includeArchived);
+        return toKeysetPage(tasks, pageSize, request);
+    }
+
+    @GetMapping("/mine")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<TaskPageResponse> getMyTasks(Authentication authentication,
+            @RequestParam(required = false) Set<Status> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeArchived, WebRequest request) {
+        int pageSize = resolvePageSize(size);
+        logger.info("Received request to get tasks assigned to {} with status {}", authentication.getName(), status);
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        List<Task> tasks = taskService.getTasksAssignedTo(authentication.getName(), status, after, pageSize + 1,
+                includeArchived);
+        return toKeysetPage(tasks, pageSize, request);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskStatsResponse> getStats(@RequestParam(required = false) UUID assignedUserId) {
+        logger.info("Received request to get task statistics for assignee {}", assignedUserId);
+        if (assignedUserId != null) {
+            return ResponseEntity.ok(taskStatsService.getStatsForUser(assignedUserId));
+        }
+        return ResponseEntity.ok(taskStatsService.getStats());
+    }
+
+    @GetMapping("/stats/mine")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<TaskStatsResponse> getMyStats(Authentication authentication) {
+        logger.info("Received request to get task statistics for {}", authentication.getName());
+        return ResponseEntity.ok(taskStatsService.getStatsForUsername(authentication.getName()));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskChangesResponse> getChanges(@RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer size) {
+        logger.info("Received request to get task changes since {}", since);
+        return ResponseEntity.ok(taskChangeService.getChangesSince(since, resolvePageSize(size)));
+    }
+
+    // Admins follow every task, users only the tasks assigned to them
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public SseEmitter streamTasks(Authentication authentication) {
+        logger.info("Received request to stream task changes for {}", authentication.getName());
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+        if (admin) {
+            return taskStreamService.subscribe(null);
+        }
+        UUID userId = userService.getUserIdByUsername(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        return taskStreamService.subscribe(userId);
+    }
+
+    private ResponseEntity<TaskPageResponse> toKeysetPage(List<Task> tasks, int pageSize, WebRequest request) {
+        boolean hasNext = tasks.size() > pageSize;
+        List<Task> pageTasks = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = hasNext ? TaskCursor.from(pageTasks.get(pageTasks.size() - 1)).encode() : null;
+        String next = hasNext
+                ? ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("cursor", nextCursor)
+                        .replaceQueryParam("size", pageSize)
+                        .toUriString()
+                : null;
+        return toPage(pageTasks, nextCursor, next, request);
+    }
+
+    // Answers 304 before any TaskResponse is built when the client already holds this page
+    private ResponseEntity<TaskPageResponse> toPage(List<Task> pageTasks, String nextCursor, String next,
+            WebRequest request) {
+        String etag = TaskETags.ofPage(pageTasks, next);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        List<TaskResponse> taskResponses = pageTasks.stream()
+                .map(TaskResponse::new)
+                .collect(Collectors.toList());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (next != null) {
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(new TaskPageResponse(taskResponses, nextCursor, next));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportTasks(HttpServletResponse response) throws IOException {
+        logger.info("Received request to export all tasks");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        // One JSON document per line, written as rows come off the cursor
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            long exported = taskService.exportTasks(task -> {
+                try {
+                    writer.writeValue(generator, new TaskResponse(task));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            logger.info("Exported {} tasks", exported);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskPageResponse> searchTasks(TaskSearchCriteria criteria,
+            @SortDefault(sort = "createdAt") Sort sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size, WebRequest request) {
+        logger.info("Received request to search tasks: {}", criteria);
+        validateSearch(criteria, sort, page);
+        int pageSize = resolvePageSize(size);
+        // Pages are offsets, and every row before the offset is read and thrown away
+        if ((long) page * pageSize > maxSearchOffset) {
+            throw new InvalidSearchException("Page is too deep, narrow the filter or list tasks with a cursor");
+        }
+        List<Task> tasks = taskService.searchTasks(criteria, sort, (long) page * pageSize, pageSize + 1);
+        boolean hasMore = tasks.size() > pageSize;
+        List<Task> pageTasks = hasMore ? tasks.subList(0, pageSize) : tasks;
+        logger.info("Search matched {} tasks on page {}", pageTasks.size(), page);
+        // No link is offered to a page past the deepest offset
+        boolean hasNext = hasMore && (long) (page + 1) * pageSize <= maxSearchOffset;
+        String next = hasNext
+                ? ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("page", page + 1)
+                        .replaceQueryParam("size", pageSize)
+                        .toUriString()
+                : null;
+        return toPage(pageTasks, null, next, request);
+    }
+
+    private void validateSearch(TaskSearchCriteria criteria, Sort sort, int page) {
+        if (page < 0) {
+            throw new InvalidSearchException("Page must not be negative");
+        }
+        for (Sort.Order order : sort) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidSearchException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+        if (criteria.getDueFrom() != null && criteria.getDueTo() != null
+                && criteria.getDueFrom().after(criteria.getDueTo())) {
+            throw new InvalidSearchException("dueFrom must not be after dueTo");
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
     private Task convertToTask(TaskRequest taskRequest) {
         Task task = new Task();
         task.setTitle(taskRequest.getTitle());
@@ -114,6 +485,20 @@ public class TaskController {
         return task;
     }
 
+    // The assignee is left as an id only; the service checks all of them in one query
+    private Task convertToUnresolvedTask(TaskRequest taskRequest) {
+        Task task = new Task();
+        task.setTitle(taskRequest.getTitle());
+        task.setDescription(taskRequest.getDescription());
+        task.setStatus(taskRequest.getStatus());
+        task.setPriority(taskRequest.getPriority());
+        task.setDueDate(taskRequest.getDueDate());
+        User assignedUser = new User();
+        assignedUser.setId(taskRequest.getAssignedUserId());
+        task.setAssignedUser(assignedUser);
+        return task;
+    }
+
     @ExceptionHandler(TaskNotFoundException.class)
     public ResponseEntity<TaskResponse> handleTaskNotFoundException(TaskNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new TaskResponse(ex.getMessage()));
@@ -0,0 +1,91 @@
+package com.taskmanagement.userservice.task.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.taskmanagement.userservice.task.exception.TaskVersionMismatchException;
+import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.user.model.User;
+
+/**
+ * Strong entity tags for task representations, derived from the task version and the
+ * user fields embedded in a {@code TaskResponse} rather than from the serialized body,
+ * so a matching {@code If-None-Match} can be answered without serializing anything.
+ * A task tag starts with the task version, which is what {@code If-Match} is checked against.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Task task) {
+        MessageDigest digest = newDigest();
+        update(digest, task);
+        return "\"" + task.getVersion() + "-" + hash(digest) + "\"";
+    }
+
+    /**
+     * Returns the task version an {@code If-Match} header refers to, or {@code null} when
+     * the header is absent or {@code *}. Weak or malformed tags can never match.
+     */
+    static Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        int dash = tag.indexOf('-');
+        if (!tag.startsWith("\"") || !tag.endsWith("\"") || dash < 0) {
+            throw new TaskVersionMismatchException("If-Match must be a single strong entity tag of the task");
+        }
+        try {
+            return Long.valueOf(tag.substring(1, dash));
+        } catch (NumberFormatException e) {
+            throw new TaskVersionMismatchException("If-Match must be a single strong entity tag of the task");
+        }
+    }
+
+    static String ofPage(List<Task> tasks, String next) {
+        MessageDigest digest = newDigest();
+        for (Task task : tasks) {
+            update(digest, task);
+        }
+        digest.update(String.valueOf(next).getBytes(StandardCharsets.UTF_8));
+        return "\"" + hash(digest) + "\"";
+    }
+
+    private static void update(MessageDigest digest, Task task) {
+        StringBuilder key = new StringBuilder()
+                .append(task.getId()).append(':').append(task.getVersion());
+        append(key, task.getAssignedUser());
+        append(key, task.getCreatedBy());
+        digest.update(key.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void append(StringBuilder key, User user) {
+        key.append('|');
+        if (user != null) {
+            key.append(user.getId()).append(',')
+                    .append(user.getUsername()).append(',')
+                    .append(user.getEmail()).append(',')
+                    .append(new TreeSet<>(user.getRoles()));
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 128 bits of SHA-256 are plenty to tell representations of the same resource apart
+    private static String hash(MessageDigest digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 16));
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.model.Status;
+
+/**
+ * Selects tasks for a bulk status change, reassignment or delete, either by id or by
+ * the same filters as the search endpoint. Only the field the endpoint changes is read.
+ */
+public class BulkTaskMutationRequest {
+
+    private Set<UUID> ids;
+
+    private TaskSearchCriteria filter;
+
+    private Status status;
+
+    private UUID assignedUserId;
+
+    // Constructors
+    public BulkTaskMutationRequest() {
+    }
+
+    public BulkTaskMutationRequest(Set<UUID> ids, TaskSearchCriteria filter, Status status, UUID assignedUserId) {
+        this.ids = ids;
+        this.filter = filter;
+        this.status = status;
+        this.assignedUserId = assignedUserId;
+    }
+
+    // Getters and Setters
+    public Set<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(Set<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public TaskSearchCriteria getFilter() {
+        return filter;
+    }
+
+    public void setFilter(TaskSearchCriteria filter) {
+        this.filter = filter;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(UUID assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTaskMutationRequest{"
+                + "ids=" + (ids != null ? ids.size() + " ids" : null)
+                + ", filter=" + filter
+                + ", status=" + status
+                + ", assignedUserId=" + assignedUserId
+                + '}';
+    }
+}
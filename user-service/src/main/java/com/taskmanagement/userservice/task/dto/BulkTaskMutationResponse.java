@@ -0,0 +1,15 @@
+package com.taskmanagement.userservice.task.dto;
+
+public class BulkTaskMutationResponse {
+
+    private final int affected;
+
+    public BulkTaskMutationResponse(int affected) {
+        this.affected = affected;
+    }
+
+    // Getters
+    public int getAffected() {
+        return affected;
+    }
+}
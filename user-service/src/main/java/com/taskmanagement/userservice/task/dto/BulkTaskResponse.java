@@ -0,0 +1,31 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.List;
+
+public class BulkTaskResponse {
+
+    private final int created;
+    private final int rejected;
+    private final List<BulkTaskResult> results;
+
+    public BulkTaskResponse(List<BulkTaskResult> results) {
+        this.results = results;
+        this.created = (int) results.stream()
+                .filter(result -> result.getOutcome() == BulkTaskResult.Outcome.CREATED)
+                .count();
+        this.rejected = results.size() - created;
+    }
+
+    // Getters
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<BulkTaskResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a bulk task creation, reported at the same position as the
+ * item in the request.
+ */
+public class BulkTaskResult {
+
+    public enum Outcome {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+
+    private final Outcome outcome;
+    private final UUID id;
+    private final List<String> errors;
+
+    private BulkTaskResult(Outcome outcome, UUID id, List<String> errors) {
+        this.outcome = outcome;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public static BulkTaskResult created(UUID id) {
+        return new BulkTaskResult(Outcome.CREATED, id, List.of());
+    }
+
+    public static BulkTaskResult invalid(List<String> errors) {
+        return new BulkTaskResult(Outcome.INVALID, null, errors);
+    }
+
+    public static BulkTaskResult failed(String error) {
+        return new BulkTaskResult(Outcome.FAILED, null, List.of(error));
+    }
+
+    // Getters
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
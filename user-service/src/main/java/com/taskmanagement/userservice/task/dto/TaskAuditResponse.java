@@ -0,0 +1,57 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.time.LocalDateTime;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.model.TaskAudit;
+
+public class TaskAuditResponse {
+
+    private final Long id;
+    private final TaskChangedEvent.Type action;
+    private final String field;
+    private final String oldValue;
+    private final String newValue;
+    private final String changedBy;
+    private final LocalDateTime changedAt;
+
+    public TaskAuditResponse(TaskAudit audit) {
+        this.id = audit.getId();
+        this.action = audit.getAction();
+        this.field = audit.getField();
+        this.oldValue = audit.getOldValue();
+        this.newValue = audit.getNewValue();
+        this.changedBy = audit.getChangedBy();
+        this.changedAt = audit.getChangedAt();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public TaskChangedEvent.Type getAction() {
+        return action;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+    // No setters to ensure immutability
+}
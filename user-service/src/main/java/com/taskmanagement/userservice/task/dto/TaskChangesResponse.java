@@ -0,0 +1,37 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class TaskChangesResponse {
+
+    private final List<TaskResponse> changed;
+    private final List<UUID> deleted;
+    private final long cursor;
+    private final boolean hasMore;
+
+    public TaskChangesResponse(List<TaskResponse> changed, List<UUID> deleted, long cursor, boolean hasMore) {
+        this.changed = changed;
+        this.deleted = deleted;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters
+    public List<TaskResponse> getChanged() {
+        return changed;
+    }
+
+    public List<UUID> getDeleted() {
+        return deleted;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    // No setters to ensure immutability
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.exception.InvalidCursorException;
+import com.taskmanagement.userservice.task.model.Task;
+
+/**
+ * Opaque keyset position over (createdAt, id). Clients only ever see the
+ * encoded form and hand it back unchanged to fetch the next page.
+ */
+public final class TaskCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public TaskCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static TaskCursor from(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new TaskCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.List;
+
+public class TaskHistoryResponse {
+
+    private final List<TaskAuditResponse> items;
+    private final Long nextCursor;
+
+    public TaskHistoryResponse(List<TaskAuditResponse> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<TaskAuditResponse> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+    // No setters to ensure immutability
+}
@@ -0,0 +1,30 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.List;
+
+public class TaskPageResponse {
+
+    private final List<TaskResponse> items;
+    private final String nextCursor;
+    private final String next;
+
+    public TaskPageResponse(List<TaskResponse> items, String nextCursor, String next) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.next = next;
+    }
+
+    // Getters
+    public List<TaskResponse> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getNext() {
+        return next;
+    }
+    // No setters to ensure immutability
+}
@@ -0,0 +1,123 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Size;
+
+/**
+ * A JSON Merge Patch (RFC 7386) of a task. Jackson only calls the setters of members
+ * present in the document, so each setter records that its field was sent; an explicit
+ * {@code null} clears the field, which only the due date allows.
+ */
+public class TaskPatch {
+
+    public enum Field {
+        TITLE,
+        DESCRIPTION,
+        STATUS,
+        PRIORITY,
+        DUE_DATE,
+        ASSIGNED_USER_ID
+    }
+
+    @JsonIgnore
+    private final Set<Field> present = EnumSet.noneOf(Field.class);
+
+    @Size(min = 3, max = 100, message = "Title must be between 3 and 100 characters")
+    private String title;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+
+    private Status status;
+
+    private Priority priority;
+
+    @Future(message = "Due date must be in the future")
+    private Date dueDate;
+
+    private UUID assignedUserId;
+
+    public boolean has(Field field) {
+        return present.contains(field);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Only the due date can be removed")
+    public boolean isRequiredFieldsKept() {
+        return !(has(Field.TITLE) && (title == null || title.isBlank()))
+                && !(has(Field.DESCRIPTION) && (description == null || description.isBlank()))
+                && !(has(Field.STATUS) && status == null)
+                && !(has(Field.PRIORITY) && priority == null)
+                && !(has(Field.ASSIGNED_USER_ID) && assignedUserId == null);
+    }
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        present.add(Field.TITLE);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        present.add(Field.DESCRIPTION);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+        present.add(Field.STATUS);
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+        present.add(Field.PRIORITY);
+    }
+
+    public Date getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(Date dueDate) {
+        this.dueDate = dueDate;
+        present.add(Field.DUE_DATE);
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(UUID assignedUserId) {
+        this.assignedUserId = assignedUserId;
+        present.add(Field.ASSIGNED_USER_ID);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskPatch{" + present + '}';
+    }
+}
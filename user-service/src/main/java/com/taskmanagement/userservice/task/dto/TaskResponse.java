@@ -22,6 +22,7 @@ public class TaskResponse {
     private final UserResponse createdBy;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final Long version;
     private final String message;
 
     public TaskResponse(Task task) {
@@ -35,6 +36,7 @@ public class TaskResponse {
         this.createdBy = task.getCreatedBy() != null ? new UserResponse(task.getCreatedBy()) : null;
         this.createdAt = task.getCreatedAt();
         this.updatedAt = task.getUpdatedAt();
+        this.version = task.getVersion();
         this.message = null;
     }
 
@@ -49,6 +51,7 @@ public class TaskResponse {
         this.createdBy = null;
         this.createdAt = null;
         this.updatedAt = null;
+        this.version = null;
         this.message = message;
     }
 
@@ -93,6 +96,10 @@ public class TaskResponse {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getMessage() {
         return message;
     }
@@ -0,0 +1,135 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+public class TaskSearchCriteria {
+
+    private Set<UUID> ids;
+
+    private Set<Status> status;
+
+    private Set<Priority> priority;
+
+    private UUID assignedUserId;
+
+    private UUID createdByUserId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date dueTo;
+
+    // Also match archived tasks; only searches read it, bulk changes never touch the archive
+    private boolean includeArchived;
+
+    // Constructors
+    public TaskSearchCriteria() {
+    }
+
+    public TaskSearchCriteria(Set<Status> status, Set<Priority> priority, UUID assignedUserId, UUID createdByUserId, Date dueFrom, Date dueTo) {
+        this.status = status;
+        this.priority = priority;
+        this.assignedUserId = assignedUserId;
+        this.createdByUserId = createdByUserId;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+    }
+
+    // True when no condition is set, i.e. the criteria match every task
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty())
+                && (status == null || status.isEmpty())
+                && (priority == null || priority.isEmpty())
+                && assignedUserId == null
+                && createdByUserId == null
+                && dueFrom == null
+                && dueTo == null;
+    }
+
+    // Getters and Setters
+    public Set<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(Set<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public Set<Status> getStatus() {
+        return status;
+    }
+
+    public void setStatus(Set<Status> status) {
+        this.status = status;
+    }
+
+    public Set<Priority> getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Set<Priority> priority) {
+        this.priority = priority;
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(UUID assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
+
+    public UUID getCreatedByUserId() {
+        return createdByUserId;
+    }
+
+    public void setCreatedByUserId(UUID createdByUserId) {
+        this.createdByUserId = createdByUserId;
+    }
+
+    public Date getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(Date dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public Date getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(Date dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskSearchCriteria{"
+                + "ids=" + ids
+                + ", status=" + status
+                + ", priority=" + priority
+                + ", assignedUserId=" + assignedUserId
+                + ", createdByUserId=" + createdByUserId
+                + ", dueFrom=" + dueFrom
+                + ", dueTo=" + dueTo
+                + ", includeArchived=" + includeArchived
+                + '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.userservice.task.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+public class TaskStatsResponse {
+
+    private final long total;
+    private final Map<Status, Long> byStatus;
+    private final Map<Priority, Long> byPriority;
+    private final Map<Status, Map<Priority, Long>> byStatusAndPriority;
+
+    public TaskStatsResponse(Map<Status, Map<Priority, Long>> byStatusAndPriority) {
+        this.byStatusAndPriority = byStatusAndPriority;
+        this.byStatus = new EnumMap<>(Status.class);
+        this.byPriority = new EnumMap<>(Priority.class);
+        long sum = 0;
+        for (Status status : Status.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        for (Map.Entry<Status, Map<Priority, Long>> statusEntry : byStatusAndPriority.entrySet()) {
+            for (Map.Entry<Priority, Long> priorityEntry : statusEntry.getValue().entrySet()) {
+                long count = priorityEntry.getValue();
+                byStatus.merge(statusEntry.getKey(), count, Long::sum);
+                byPriority.merge(priorityEntry.getKey(), count, Long::sum);
+                sum += count;
+            }
+        }
+        this.total = sum;
+    }
+
+    // Getters
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<Status, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public Map<Priority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public Map<Status, Map<Priority, Long>> getByStatusAndPriority() {
+        return byStatusAndPriority;
+    }
+}
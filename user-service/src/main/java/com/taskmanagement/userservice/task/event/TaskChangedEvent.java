@@ -0,0 +1,54 @@
+package com.taskmanagement.userservice.task.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the task service after a task is created, updated or deleted.
+ * {@code before} is null for creations and {@code after} is null for deletions.
+ */
+public final class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final TaskSnapshot before;
+    private final TaskSnapshot after;
+
+    private TaskChangedEvent(Type type, TaskSnapshot before, TaskSnapshot after) {
+        this.type = type;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(Type.DELETED, before, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public UUID getTaskId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    public TaskSnapshot getBefore() {
+        return before;
+    }
+
+    public TaskSnapshot getAfter() {
+        return after;
+    }
+}
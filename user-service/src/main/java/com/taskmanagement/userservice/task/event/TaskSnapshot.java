@@ -0,0 +1,101 @@
+package com.taskmanagement.userservice.task.event;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.Task;
+
+/**
+ * Immutable copy of a task's columns at one point in time, safe to hand to listeners
+ * after the entity itself has changed or been deleted.
+ */
+public final class TaskSnapshot {
+
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final Status status;
+    private final Priority priority;
+    private final Date dueDate;
+    private final UUID assignedUserId;
+    private final UUID createdByUserId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public TaskSnapshot(UUID id, String title, String description, Status status, Priority priority, Date dueDate,
+            UUID assignedUserId, UUID createdByUserId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate != null ? new Date(dueDate.getTime()) : null;
+        this.assignedUserId = assignedUserId;
+        this.createdByUserId = createdByUserId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static TaskSnapshot from(Task task) {
+        // Reading the id of a lazy association does not initialize it
+        return new TaskSnapshot(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueDate(),
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null,
+                task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
+                task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    public TaskSnapshot withStatus(Status newStatus, LocalDateTime changedAt) {
+        return new TaskSnapshot(id, title, description, newStatus, priority, dueDate, assignedUserId,
+                createdByUserId, createdAt, changedAt);
+    }
+
+    public TaskSnapshot withAssignedUserId(UUID newAssignedUserId, LocalDateTime changedAt) {
+        return new TaskSnapshot(id, title, description, status, priority, dueDate, newAssignedUserId,
+                createdByUserId, createdAt, changedAt);
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public Date getDueDate() {
+        return dueDate != null ? new Date(dueDate.getTime()) : null;
+    }
+
+    public UUID getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public UUID getCreatedByUserId() {
+        return createdByUserId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.task.exception;
+
+public class InvalidBulkRequestException extends RuntimeException {
+
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
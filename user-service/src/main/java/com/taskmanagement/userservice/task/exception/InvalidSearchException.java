@@ -0,0 +1,12 @@
+package com.taskmanagement.userservice.task.exception;
+
+public class InvalidSearchException extends RuntimeException {
+
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+
+    public InvalidSearchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
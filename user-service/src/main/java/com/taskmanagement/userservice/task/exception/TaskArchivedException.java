@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.task.exception;
+
+public class TaskArchivedException extends RuntimeException {
+
+    public TaskArchivedException(String message) {
+        super(message);
+    }
+}
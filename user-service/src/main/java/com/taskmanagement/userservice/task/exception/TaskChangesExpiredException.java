@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.task.exception;
+
+public class TaskChangesExpiredException extends RuntimeException {
+
+    public TaskChangesExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskmanagement.userservice.task.model;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.user.model.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * A completed or cancelled task moved out of {@code tasks} by the archiver. Same columns
+ * as {@link Task} plus the time it was archived, and only the indexes the archive reads
+ * need. Rows are copied in with SQL and never change afterwards.
+ */
+@Entity
+@Table(name = "tasks_archive", indexes = {
+    @Index(name = "idx_tasks_archive_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tasks_archive_assignee_created_at_id", columnList = "assigned_user_id, created_at, id")
+})
+public class ArchivedTask {
+
+    @Id
+    private UUID id;
+
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    private Date dueDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_user_id")
+    private User assignedUser;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by_user_id")
+    private User createdBy;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Constructors
+    public ArchivedTask() {
+    }
+
+    // Read paths hand archived tasks around as detached tasks; they must never be saved
+    public Task toTask() {
+        Task task = new Task(id, title, description, status, priority, dueDate, assignedUser, createdBy);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(version);
+        return task;
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public Date getDueDate() {
+        return dueDate;
+    }
+
+    public User getAssignedUser() {
+        return assignedUser;
+    }
+
+    public User getCreatedBy() {
+        return createdBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -4,27 +4,43 @@ import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import com.taskmanagement.userservice.user.model.User;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "tasks")
+// Updates only write the columns that changed, most often just status and updated_at
+@DynamicUpdate
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tasks_assignee_created_at_id", columnList = "assigned_user_id, created_at, id"),
+    @Index(name = "idx_tasks_assignee_status_due", columnList = "assigned_user_id, status, due_date"),
+    @Index(name = "idx_tasks_creator_status_due", columnList = "created_by_user_id, status, due_date"),
+    @Index(name = "idx_tasks_status_priority_due", columnList = "status, priority, due_date"),
+    // Finished tasks past the retention, as picked by the archiver
+    @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at")
+})
 public class Task {
 
     @Id
@@ -50,11 +66,11 @@ public class Task {
     @Future(message = "Due date must be in the future")
     private Date dueDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_user_id")
     private User assignedUser;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_user_id")
     private User createdBy;
 
@@ -64,6 +80,12 @@ public class Task {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Bumped on every update; the default lets the column be added to existing rows
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Task() {
     }
@@ -159,4 +181,12 @@ public class Task {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,108 @@
+package com.taskmanagement.userservice.task.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One changed field of a task: who changed it, when, and its value before and after.
+ * A deletion is a single row without a field. Rows are written in batches by the audit
+ * writer with plain JDBC and only ever read through JPA.
+ */
+@Entity
+@Table(name = "task_audit", indexes = {
+    @Index(name = "idx_task_audit_task_id_id", columnList = "task_id, id")
+})
+public class TaskAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskChangedEvent.Type action;
+
+    @Column(length = 50)
+    private String field;
+
+    @Column(name = "old_value", columnDefinition = "text")
+    private String oldValue;
+
+    @Column(name = "new_value", columnDefinition = "text")
+    private String newValue;
+
+    @Column(name = "changed_by", nullable = false, length = 50)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public TaskAudit() {
+    }
+
+    public TaskAudit(UUID taskId, TaskChangedEvent.Type action, String field, String oldValue, String newValue,
+            String changedBy, LocalDateTime changedAt) {
+        this(null, taskId, action, field, oldValue, newValue, changedBy, changedAt);
+    }
+
+    public TaskAudit(Long id, UUID taskId, TaskChangedEvent.Type action, String field, String oldValue,
+            String newValue, String changedBy, LocalDateTime changedAt) {
+        this.id = id;
+        this.taskId = taskId;
+        this.action = action;
+        this.field = field;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.changedBy = changedBy;
+        this.changedAt = changedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public TaskChangedEvent.Type getAction() {
+        return action;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskmanagement.userservice.task.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One row per task change; deletions stay behind as tombstones until pruned. Rows are
+ * written with plain JDBC by the change log, never through the entity manager. The
+ * {@code seq} clients use as their cursor is only handed out once the writing transaction
+ * has finished, so it follows commit order rather than the order rows were inserted.
+ */
+@Entity
+@Table(name = "task_changes", indexes = {
+    @Index(name = "idx_task_changes_seq", columnList = "seq", unique = true),
+    @Index(name = "idx_task_changes_changed_at", columnList = "changed_at")
+})
+public class TaskChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Null until the sequencer has seen the writing transaction finish
+    private Long seq;
+
+    // Id of the writing transaction on PostgreSQL
+    private Long txid;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public TaskChange() {
+    }
+
+    public TaskChange(Long id, Long seq, UUID taskId, boolean deleted, LocalDateTime changedAt) {
+        this.id = id;
+        this.seq = seq;
+        this.taskId = taskId;
+        this.deleted = deleted;
+        this.changedAt = changedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public Long getTxid() {
+        return txid;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanagement.userservice.task.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * How far the task change log has been pruned. Cursors below it have lost changes and
+ * must reload; comparing against the oldest remaining row would misfire on sequence gaps.
+ */
+@Entity
+@Table(name = "task_change_watermarks")
+public class TaskChangeWatermark {
+
+    public static final String PRUNED = "pruned";
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long seq;
+
+    // Constructors
+    public TaskChangeWatermark() {
+    }
+
+    public TaskChangeWatermark(String name, long seq) {
+        this.name = name;
+        this.seq = seq;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+}
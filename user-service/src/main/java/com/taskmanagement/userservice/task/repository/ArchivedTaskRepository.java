@@ -0,0 +1,90 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.taskmanagement.userservice.task.model.ArchivedTask;
+import com.taskmanagement.userservice.task.model.Status;
+
+import jakarta.persistence.QueryHint;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID>, ArchivedTaskRepositoryCustom {
+
+    @Override
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    Optional<ArchivedTask> findById(UUID id);
+
+    @Override
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    List<ArchivedTask> findAll();
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from ArchivedTask t where t.id in :ids")
+    List<ArchivedTask> findAllWithUsersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Server-side cursor for full exports; must be consumed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from ArchivedTask t left join fetch t.assignedUser left join fetch t.createdBy")
+    Stream<ArchivedTask> streamAll();
+
+    // Same keyset pages as TaskRepository, backed by the archive's own indexes
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from ArchivedTask t order by t.createdAt, t.id")
+    List<ArchivedTask> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from ArchivedTask t"
+            + " where (t.createdAt, t.id) > (:createdAt, :id)"
+            + " order by t.createdAt, t.id")
+    List<ArchivedTask> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from ArchivedTask t"
+            + " where t.assignedUser.id = :userId and t.status in :statuses"
+            + " order by t.createdAt, t.id")
+    List<ArchivedTask> findAssignedFirstPage(@Param("userId") UUID userId, @Param("statuses") Set<Status> statuses,
+            Limit limit);
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from ArchivedTask t"
+            + " where t.assignedUser.id = :userId and t.status in :statuses"
+            + " and (t.createdAt, t.id) > (:createdAt, :id)"
+            + " order by t.createdAt, t.id")
+    List<ArchivedTask> findAssignedPageAfter(@Param("userId") UUID userId, @Param("statuses") Set<Status> statuses,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    // Copies the given rows of the hot table in one statement; the caller deletes them afterwards
+    @Modifying
+    @Query(value = "insert into tasks_archive (id, title, description, status, priority, due_date,"
+            + " assigned_user_id, created_by_user_id, created_at, updated_at, version, archived_at)"
+            + " select id, title, description, status, priority, due_date,"
+            + " assigned_user_id, created_by_user_id, created_at, updated_at, version, :archivedAt"
+            + " from tasks where id in :ids", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Archived tasks still count towards the task statistics
+    @Query("select t.status as status, t.priority as priority, t.assignedUser.id as assignedUserId, count(t) as count"
+            + " from ArchivedTask t group by t.status, t.priority, t.assignedUser.id")
+    List<TaskCountRow> countByStatusPriorityAndAssignee();
+
+    @Query("select t.id as id, t.status as status, t.priority as priority, t.assignedUser.id as assignedUserId"
+            + " from ArchivedTask t where t.id in :ids")
+    List<TaskStateRow> findStatesByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskmanagement.userservice.task.model.ArchivedTask;
+
+public interface ArchivedTaskRepositoryCustom {
+
+    /**
+     * Same window query as {@link TaskRepositoryCustom#search}, over the archive.
+     */
+    List<ArchivedTask> search(Specification<ArchivedTask> spec, Sort sort, long offset, int limit);
+}
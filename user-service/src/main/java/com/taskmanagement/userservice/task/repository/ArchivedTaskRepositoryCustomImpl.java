@@ -0,0 +1,24 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskmanagement.userservice.task.model.ArchivedTask;
+
+import jakarta.persistence.EntityManager;
+
+class ArchivedTaskRepositoryCustomImpl implements ArchivedTaskRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    ArchivedTaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ArchivedTask> search(Specification<ArchivedTask> spec, Sort sort, long offset, int limit) {
+        return TaskRepositoryCustomImpl.search(entityManager, ArchivedTask.class, spec, sort, offset, limit);
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskmanagement.userservice.task.model.TaskAudit;
+
+public interface TaskAuditRepository extends JpaRepository<TaskAudit, Long> {
+
+    // Newest first, keyset over idx_task_audit_task_id_id
+    @Query("select a from TaskAudit a where a.taskId = :taskId order by a.id desc")
+    List<TaskAudit> findLatest(@Param("taskId") UUID taskId, Limit limit);
+
+    @Query("select a from TaskAudit a where a.taskId = :taskId and a.id < :before order by a.id desc")
+    List<TaskAudit> findBefore(@Param("taskId") UUID taskId, @Param("before") long before, Limit limit);
+}
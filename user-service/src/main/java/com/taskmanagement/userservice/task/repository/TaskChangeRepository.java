@@ -0,0 +1,28 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskmanagement.userservice.task.model.TaskChange;
+
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long> {
+
+    @Query("select c from TaskChange c where c.seq > :since order by c.seq")
+    List<TaskChange> findAfter(@Param("since") long since, Limit limit);
+
+    @Query("select max(c.seq) from TaskChange c")
+    Long findLastSeq();
+
+    @Query("select max(c.seq) from TaskChange c where c.changedAt < :before")
+    Long findLastSeqChangedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from TaskChange c where c.seq <= :through")
+    int deleteThrough(@Param("through") long through);
+}
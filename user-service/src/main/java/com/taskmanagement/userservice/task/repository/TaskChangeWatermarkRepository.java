@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.task.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.taskmanagement.userservice.task.model.TaskChangeWatermark;
+
+public interface TaskChangeWatermarkRepository extends JpaRepository<TaskChangeWatermark, String> {
+}
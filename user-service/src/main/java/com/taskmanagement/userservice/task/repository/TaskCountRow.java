@@ -0,0 +1,20 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+/**
+ * One group of {@link TaskRepository#countByStatusPriorityAndAssignee()}.
+ */
+public interface TaskCountRow {
+
+    Status getStatus();
+
+    Priority getPriority();
+
+    UUID getAssignedUserId();
+
+    long getCount();
+}
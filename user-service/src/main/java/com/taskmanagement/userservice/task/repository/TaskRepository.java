@@ -1,11 +1,129 @@
 package com.taskmanagement.userservice.task.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.taskmanagement.userservice.reminder.TaskReminder;
+import com.taskmanagement.userservice.task.model.Status;
 import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.user.model.User;
 
-import java.util.UUID;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    // Every read that ends up in a TaskResponse fetches both users up front
+    @Override
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    Optional<Task> findById(UUID id);
+
+    @Override
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    List<Task> findAll();
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from Task t where t.id in :ids")
+    List<Task> findAllWithUsersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Keyset pagination over (createdAt, id), backed by idx_tasks_created_at_id
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from Task t order by t.createdAt, t.id")
+    List<Task> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from Task t"
+            + " where (t.createdAt, t.id) > (:createdAt, :id)"
+            + " order by t.createdAt, t.id")
+    List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    // Keyset pagination over one assignee's tasks, backed by idx_tasks_assignee_created_at_id
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from Task t"
+            + " where t.assignedUser.id = :userId and t.status in :statuses"
+            + " order by t.createdAt, t.id")
+    List<Task> findAssignedFirstPage(@Param("userId") UUID userId, @Param("statuses") Set<Status> statuses,
+            Limit limit);
+
+    @EntityGraph(attributePaths = {"assignedUser", "createdBy"})
+    @Query("select t from Task t"
+            + " where t.assignedUser.id = :userId and t.status in :statuses"
+            + " and (t.createdAt, t.id) > (:createdAt, :id)"
+            + " order by t.createdAt, t.id")
+    List<Task> findAssignedPageAfter(@Param("userId") UUID userId, @Param("statuses") Set<Status> statuses,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    // Set-based mutations for bulk requests; callers pass at most a few thousand ids at a time
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1"
+            + " where t.id in :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") Status status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignedUser = :assignee, t.updatedAt = :updatedAt, t.version = t.version + 1"
+            + " where t.id in :ids")
+    int updateAssignee(@Param("ids") Collection<UUID> ids, @Param("assignee") User assignee,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Finished tasks due for the archive, locked so they cannot change while being moved;
+    // rows locked by a writer or another node's archiver are skipped (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select t.id from Task t where t.status in :statuses and t.updatedAt < :before")
+    List<UUID> lockArchivableIds(@Param("statuses") Set<Status> statuses, @Param("before") LocalDateTime before,
+            Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    // Source of truth for the incrementally maintained task statistics
+    @Query("select t.status as status, t.priority as priority, t.assignedUser.id as assignedUserId, count(t) as count"
+            + " from Task t group by t.status, t.priority, t.assignedUser.id")
+    List<TaskCountRow> countByStatusPriorityAndAssignee();
+
+    @Query("select t.id as id, t.status as status, t.priority as priority, t.assignedUser.id as assignedUserId"
+            + " from Task t where t.id in :ids")
+    List<TaskStateRow> findStatesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Open tasks coming due, read without loading entities to rebuild the reminder schedule;
+    // must be consumed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.taskmanagement.userservice.reminder.TaskReminder(t.id, t.title, t.assignedUser.id, t.dueDate)"
+            + " from Task t where t.status in :statuses and t.dueDate > :after")
+    Stream<TaskReminder> streamReminders(@Param("statuses") Set<Status> statuses, @Param("after") Date after);
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+    // Current reminder state of tasks named in the change log; a task missing here has no reminder
+    @Query("select new com.taskmanagement.userservice.reminder.TaskReminder(t.id, t.title, t.assignedUser.id, t.dueDate)"
+            + " from Task t where t.id in :ids and t.status in :statuses and t.dueDate is not null")
+    List<TaskReminder> findReminders(@Param("ids") Collection<UUID> ids, @Param("statuses") Set<Status> statuses);
 
+    // Server-side cursor for full exports; must be consumed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t left join fetch t.assignedUser left join fetch t.createdBy")
+    Stream<Task> streamAll();
 }
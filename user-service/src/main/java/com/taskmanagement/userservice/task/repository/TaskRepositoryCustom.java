@@ -0,0 +1,24 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Task;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Runs a filtered, sorted window query with both users fetch-joined.
+     * Unlike {@code findAll(Specification, Pageable)} it never issues a count query.
+     */
+    List<Task> search(Specification<Task> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Reads the columns of at most {@code limit} matching tasks without loading entities,
+     * locking the rows until the surrounding transaction ends. Must run in a transaction.
+     */
+    List<TaskSnapshot> lockSnapshots(Specification<Task> spec, int limit);
+}
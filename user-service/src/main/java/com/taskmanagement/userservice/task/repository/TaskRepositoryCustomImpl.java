@@ -0,0 +1,75 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Task> search(Specification<Task> spec, Sort sort, long offset, int limit) {
+        return search(entityManager, Task.class, spec, sort, offset, limit);
+    }
+
+    // Shared with the archive, whose entity has the same attribute names
+    static <T> List<T> search(EntityManager entityManager, Class<T> type, Specification<T> spec, Sort sort,
+            long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        root.fetch("assignedUser", JoinType.LEFT);
+        root.fetch("createdBy", JoinType.LEFT);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskSnapshot> lockSnapshots(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSnapshot> query = cb.createQuery(TaskSnapshot.class);
+        Root<Task> root = query.from(Task.class);
+        // The user ids are read from the foreign key columns, so no join is needed
+        query.select(cb.construct(TaskSnapshot.class,
+                root.get("id"), root.get("title"), root.get("description"), root.get("status"),
+                root.get("priority"), root.get("dueDate"), root.get("assignedUser").get("id"),
+                root.get("createdBy").get("id"), root.get("createdAt"), root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
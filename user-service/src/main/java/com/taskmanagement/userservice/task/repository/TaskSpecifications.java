@@ -0,0 +1,82 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+/**
+ * Filters for task queries. User filters compare the foreign key columns
+ * directly so they resolve against the tasks indexes without joining users.
+ * They only name attributes, so they apply to archived tasks as well.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static <T> Specification<T> matching(TaskSearchCriteria criteria) {
+        List<Specification<T>> specs = new ArrayList<>();
+        if (criteria.getIds() != null && !criteria.getIds().isEmpty()) {
+            specs.add(hasId(criteria.getIds()));
+        }
+        if (criteria.getAssignedUserId() != null) {
+            specs.add(assignedTo(criteria.getAssignedUserId()));
+        }
+        if (criteria.getCreatedByUserId() != null) {
+            specs.add(createdBy(criteria.getCreatedByUserId()));
+        }
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+            specs.add(hasStatus(criteria.getStatus()));
+        }
+        if (criteria.getPriority() != null && !criteria.getPriority().isEmpty()) {
+            specs.add(hasPriority(criteria.getPriority()));
+        }
+        if (criteria.getDueFrom() != null) {
+            specs.add(dueOnOrAfter(criteria.getDueFrom()));
+        }
+        if (criteria.getDueTo() != null) {
+            specs.add(dueBefore(criteria.getDueTo()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static <T> Specification<T> hasId(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static <T> Specification<T> assignedTo(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    public static <T> Specification<T> createdBy(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    public static <T> Specification<T> hasStatus(Collection<Status> statuses) {
+        return (root, query, cb) -> statuses.size() == 1
+                ? cb.equal(root.get("status"), statuses.iterator().next())
+                : root.get("status").in(statuses);
+    }
+
+    public static <T> Specification<T> hasPriority(Collection<Priority> priorities) {
+        return (root, query, cb) -> priorities.size() == 1
+                ? cb.equal(root.get("priority"), priorities.iterator().next())
+                : root.get("priority").in(priorities);
+    }
+
+    public static <T> Specification<T> dueOnOrAfter(Date from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static <T> Specification<T> dueBefore(Date to) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), to);
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.userservice.task.repository;
+
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+/**
+ * The statistics-relevant columns of one task, as seen by {@link TaskRepository#findStatesByIdIn}.
+ */
+public interface TaskStateRow {
+
+    UUID getId();
+
+    Status getStatus();
+
+    Priority getPriority();
+
+    UUID getAssignedUserId();
+}
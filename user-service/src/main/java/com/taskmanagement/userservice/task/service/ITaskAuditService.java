@@ -0,0 +1,11 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.dto.TaskHistoryResponse;
+
+public interface ITaskAuditService {
+
+    TaskHistoryResponse getHistory(UUID taskId, Long before, int limit);
+
+}
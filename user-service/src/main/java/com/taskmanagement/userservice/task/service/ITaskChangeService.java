@@ -0,0 +1,13 @@
+package com.taskmanagement.userservice.task.service;
+
+import com.taskmanagement.userservice.task.dto.TaskChangesResponse;
+
+public interface ITaskChangeService {
+
+    TaskChangesResponse getChangesSince(Long since, int limit);
+
+    void sequence();
+
+    void prune();
+
+}
@@ -2,21 +2,49 @@ package com.taskmanagement.userservice.task.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Sort;
+
+import com.taskmanagement.userservice.task.dto.BulkTaskResult;
+import com.taskmanagement.userservice.task.dto.TaskCursor;
+import com.taskmanagement.userservice.task.dto.TaskPatch;
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.model.Status;
 import com.taskmanagement.userservice.task.model.Task;
 
 public interface ITaskService {
 
     Task createTask(Task task);
 
+    List<BulkTaskResult> createTasks(List<Task> tasks);
+
     Optional<Task> getTaskById(UUID id);
 
-    Task updateTask(UUID id, Task task);
+    Task updateTask(UUID id, Task task, Long expectedVersion);
+
+    Task patchTask(UUID id, TaskPatch patch, Long expectedVersion);
 
     void deleteTask(UUID id);
 
-    List<Task> getAllTasks();
+    int changeStatus(TaskSearchCriteria criteria, Status status, int limit);
+
+    int reassignTasks(TaskSearchCriteria criteria, UUID assignedUserId, int limit);
+
+    int deleteTasks(TaskSearchCriteria criteria, int limit);
+
+    List<Task> getAllTasks(boolean includeArchived);
+
+    List<Task> getTasksAfter(TaskCursor cursor, int limit, boolean includeArchived);
+
+    List<Task> getTasksAssignedTo(String username, Set<Status> statuses, TaskCursor cursor, int limit,
+            boolean includeArchived);
+
+    long exportTasks(Consumer<Task> consumer);
+
+    List<Task> searchTasks(TaskSearchCriteria criteria, Sort sort, long offset, int limit);
 
     boolean isTaskAssignedToUser(String username, UUID taskId);
 
@@ -0,0 +1,17 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.util.UUID;
+
+import com.taskmanagement.userservice.task.dto.TaskStatsResponse;
+
+public interface ITaskStatsService {
+
+    TaskStatsResponse getStats();
+
+    TaskStatsResponse getStatsForUser(UUID userId);
+
+    TaskStatsResponse getStatsForUsername(String username);
+
+    void reconcile();
+
+}
@@ -0,0 +1,11 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.util.UUID;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ITaskStreamService {
+
+    SseEmitter subscribe(UUID assigneeId);
+
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves finished tasks that have not changed for a while from {@code tasks} to
+ * {@code tasks_archive}, so the hot table and its indexes only hold live work. Each
+ * batch is copied and deleted in one transaction with a single statement each way.
+ * Archiving does not change a task, so no change events are published and cached
+ * copies stay valid; the task reads the same through the archive.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    // Only tasks in these states are archived; the archive is read-only
+    public static final Set<Status> ARCHIVED_STATUSES =
+            Collections.unmodifiableSet(EnumSet.of(Status.COMPLETED, Status.CANCELLED));
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration age;
+    private final int batchSize;
+    private final Counter archived;
+
+    public TaskArchiver(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.tasks.archive.age:P90D}") Duration age,
+            @Value("${app.tasks.archive.batch-size:1000}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.age = age;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("tasks.archived")
+                .description("Tasks moved to the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives every eligible task, one batch per transaction. Returns the number moved.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.archive.interval:PT1H}",
+            initialDelayString = "${app.tasks.archive.interval:PT1H}")
+    public int archive() {
+        LocalDateTime before = LocalDateTime.now().minus(age);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(before));
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            archived.increment(total);
+            logger.info("Archived {} tasks last changed before {}", total, before);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime before) {
+        List<UUID> ids = taskRepository.lockArchivableIds(ARCHIVED_STATUSES, before, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        taskRepository.deleteByIds(ids);
+        return ids.size();
+    }
+}
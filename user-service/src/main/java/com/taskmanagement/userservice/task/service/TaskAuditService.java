@@ -0,0 +1,117 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.taskmanagement.userservice.task.dto.TaskAuditResponse;
+import com.taskmanagement.userservice.task.dto.TaskHistoryResponse;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.TaskAudit;
+import com.taskmanagement.userservice.task.repository.TaskAuditRepository;
+
+/**
+ * Turns committed task changes into per-field audit rows and serves them back as a
+ * task's history. Diffs are computed on the thread that made the change, where the
+ * acting user is known, and handed to the {@link TaskAuditWriter}; history therefore
+ * trails the tasks themselves by the writer's flush delay.
+ */
+@Service
+public class TaskAuditService implements ITaskAuditService {
+
+    static final String SYSTEM_USER = "system";
+
+    // Audited fields in the order their rows are written
+    private static final Map<String, Function<TaskSnapshot, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("title", TaskSnapshot::getTitle);
+        FIELDS.put("description", TaskSnapshot::getDescription);
+        FIELDS.put("status", TaskSnapshot::getStatus);
+        FIELDS.put("priority", TaskSnapshot::getPriority);
+        FIELDS.put("dueDate", TaskSnapshot::getDueDate);
+        FIELDS.put("assignedUserId", TaskSnapshot::getAssignedUserId);
+    }
+
+    private final TaskAuditRepository auditRepository;
+    private final TaskAuditWriter auditWriter;
+
+    public TaskAuditService(TaskAuditRepository auditRepository, TaskAuditWriter auditWriter) {
+        this.auditRepository = auditRepository;
+        this.auditWriter = auditWriter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<TaskAudit> rows = diff(event, currentUsername(), LocalDateTime.now());
+        if (!rows.isEmpty()) {
+            auditWriter.enqueue(rows);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskHistoryResponse getHistory(UUID taskId, Long before, int limit) {
+        List<TaskAudit> rows = before == null
+                ? auditRepository.findLatest(taskId, Limit.of(limit + 1))
+                : auditRepository.findBefore(taskId, before, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<TaskAudit> page = hasMore ? rows.subList(0, limit) : rows;
+        List<TaskAuditResponse> items = page.stream()
+                .map(TaskAuditResponse::new)
+                .collect(Collectors.toList());
+        return new TaskHistoryResponse(items, hasMore ? page.get(page.size() - 1).getId() : null);
+    }
+
+    /**
+     * One row per field that differs between the before and after state. A creation
+     * records every field that was set, a deletion a single row without a field.
+     */
+    static List<TaskAudit> diff(TaskChangedEvent event, String changedBy, LocalDateTime changedAt) {
+        UUID taskId = event.getTaskId();
+        List<TaskAudit> rows = new ArrayList<>();
+        if (event.getType() == TaskChangedEvent.Type.DELETED) {
+            rows.add(new TaskAudit(taskId, event.getType(), null, null, null, changedBy, changedAt));
+            return rows;
+        }
+        for (Map.Entry<String, Function<TaskSnapshot, Object>> field : FIELDS.entrySet()) {
+            Object oldValue = event.getBefore() != null ? field.getValue().apply(event.getBefore()) : null;
+            Object newValue = field.getValue().apply(event.getAfter());
+            if (!Objects.equals(oldValue, newValue)) {
+                rows.add(new TaskAudit(taskId, event.getType(), field.getKey(), format(oldValue), format(newValue),
+                        changedBy, changedAt));
+            }
+        }
+        return rows;
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Date date) {
+            return date.toInstant().toString();
+        }
+        return value.toString();
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : SYSTEM_USER;
+    }
+}
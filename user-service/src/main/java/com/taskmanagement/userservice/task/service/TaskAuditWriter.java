@@ -0,0 +1,192 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.taskmanagement.userservice.task.model.TaskAudit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Writes task audit rows behind the requests that produce them. Rows wait in a bounded
+ * queue and a single writer thread stores whatever has accumulated with multi-row
+ * inserts, so a burst of changes costs a few statements instead of one per field.
+ *
+ * <p>When the queue is full a producer waits up to {@code app.tasks.audit.offer-timeout}
+ * once and then writes its remaining rows itself, trading latency for never dropping
+ * history. On a
+ * graceful shutdown the queue is drained before the application stops, unless
+ * {@code app.tasks.audit.flush-on-shutdown} is off; a crash can lose what was still queued.
+ */
+@Component
+public class TaskAuditWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAuditWriter.class);
+
+    // Seven parameters per row keeps a full statement well below driver bind limits;
+    // the writer flushes at most this many rows at a time, so a retried flush never duplicates rows
+    static final int ROWS_PER_INSERT = 500;
+
+    private static final String INSERT_PREFIX = "insert into task_audit"
+            + " (task_id, action, field, old_value, new_value, changed_by, changed_at) values ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<TaskAudit> queue;
+    private final Duration offerTimeout;
+    private final boolean flushOnShutdown;
+    private final Duration shutdownTimeout;
+    private final Counter overflows;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public TaskAuditWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${app.tasks.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.tasks.audit.offer-timeout:PT0.1S}") Duration offerTimeout,
+            @Value("${app.tasks.audit.flush-on-shutdown:true}") boolean flushOnShutdown,
+            @Value("${app.tasks.audit.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.offerTimeout = offerTimeout;
+        this.flushOnShutdown = flushOnShutdown;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("tasks.audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit rows waiting to be written")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("tasks.audit.overflow")
+                .description("Audit rows written by the request thread because the queue was full")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("tasks.audit.batch.size")
+                .description("Audit rows written per flush")
+                .register(meterRegistry);
+    }
+
+    // Rows offered after stop() are written by the caller, as in-flight requests may still finish.
+    // Once one offer times out the writer is behind, so the rest of the call is written directly
+    // instead of waiting out the timeout row by row
+    public void enqueue(List<TaskAudit> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            boolean queued;
+            try {
+                queued = running && queue.offer(rows.get(i), offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (!queued) {
+                List<TaskAudit> overflow = rows.subList(i, rows.size());
+                overflows.increment(overflow.size());
+                insert(overflow);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::drain, "task-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Stopped with {} task audit rows not written", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<TaskAudit> batch = new ArrayList<>(ROWS_PER_INSERT);
+        long backoff = 100;
+        while (running || (flushOnShutdown && !queue.isEmpty())) {
+            try {
+                if (batch.isEmpty()) {
+                    TaskAudit first = queue.poll(200, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, ROWS_PER_INSERT - 1);
+                }
+                insert(batch);
+                batchSizes.record(batch.size());
+                batch.clear();
+                backoff = 100;
+            } catch (DataAccessException e) {
+                // The batch is kept and retried; meanwhile the queue fills and producers slow down
+                logger.warn("Failed to write {} task audit rows, retrying in {} ms: {}", batch.size(), backoff,
+                        e.getMessage());
+                if (!running) {
+                    logger.error("Dropping {} task audit rows at shutdown", batch.size());
+                    batch.clear();
+                    continue;
+                }
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void insert(List<TaskAudit> rows) {
+        for (int from = 0; from < rows.size(); from += ROWS_PER_INSERT) {
+            List<TaskAudit> chunk = rows.subList(from, Math.min(from + ROWS_PER_INSERT, rows.size()));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * 7];
+            int i = 0;
+            for (TaskAudit row : chunk) {
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+                args[i++] = row.getTaskId();
+                args[i++] = row.getAction().name();
+                args[i++] = row.getField();
+                args[i++] = row.getOldValue();
+                args[i++] = row.getNewValue();
+                args[i++] = row.getChangedBy();
+                args[i++] = row.getChangedAt();
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
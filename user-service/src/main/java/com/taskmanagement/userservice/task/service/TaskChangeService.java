@@ -0,0 +1,254 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanagement.userservice.task.dto.TaskChangesResponse;
+import com.taskmanagement.userservice.task.dto.TaskResponse;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.exception.TaskChangesExpiredException;
+import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.model.TaskChange;
+import com.taskmanagement.userservice.task.model.TaskChangeWatermark;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskChangeRepository;
+import com.taskmanagement.userservice.task.repository.TaskChangeWatermarkRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Keeps an append-only log of task changes for clients that replicate tasks locally.
+ * Changes made inside a transaction are written in one JDBC batch just before it
+ * commits, so the log and the tasks table never disagree. A log rather than a cursor
+ * over {@code tasks.updated_at}: deletions need a row to leave a tombstone in, and
+ * timestamps are taken before commit, so a slow transaction would land behind readers.
+ *
+ * <p>The cursor is {@code seq}, handed out by a short scheduled pass once the writing
+ * transaction has finished: on PostgreSQL each row records its transaction id, and only
+ * rows older than every transaction still running are numbered. Numbering never waits
+ * for a task write, and task writes never wait for each other; only the numbering pass
+ * itself is serialized across instances. A reader can therefore never pass a change that
+ * commits later with a lower number. The H2 test database numbers rows as they are written.
+ *
+ * <p>Readers get the current
+ * state of every task changed since their cursor, from the tasks table or the archive,
+ * or a tombstone when it is gone from both, so a sync costs one query for the log and
+ * one for the tasks it names (two when some of them have been archived).
+ */
+@Service
+public class TaskChangeService implements ITaskChangeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeService.class);
+
+    static final String INSERT_SQL = "insert into task_changes (task_id, deleted, changed_at) values (?, ?, ?)";
+
+    static final String POSTGRES_INSERT_SQL = "insert into task_changes (task_id, deleted, changed_at, txid)"
+            + " values (?, ?, ?, pg_current_xact_id()::text::bigint)";
+
+    // Only one instance numbers rows at a time; the others skip their pass
+    static final long SEQUENCE_LOCK_KEY = 0x7461736B6C6F67L;
+
+    // Rows of transactions older than the snapshot's xmin are final: committed, or rolled back and gone.
+    // Rows without a transaction id predate it and are final too.
+    static final String SEQUENCE_SQL = "update task_changes c set seq = n.seq"
+            + " from (select id, (select coalesce(max(seq), 0) from task_changes)"
+            + " + row_number() over (order by txid nulls first, id) as seq from task_changes"
+            + " where seq is null and (txid is null"
+            + " or txid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint)) n"
+            + " where c.id = n.id";
+
+    static final String SEQUENCE_ON_WRITE_SQL = "update task_changes set seq = id where seq is null";
+
+    private final TaskChangeRepository changeRepository;
+    private final TaskChangeWatermarkRepository watermarkRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private volatile Boolean postgres;
+
+    public TaskChangeService(TaskChangeRepository changeRepository, TaskChangeWatermarkRepository watermarkRepository,
+            TaskRepository taskRepository,
+            ArchivedTaskRepository archivedTaskRepository, JdbcTemplate jdbcTemplate, EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.tasks.changes.retention:P30D}") Duration retention) {
+        this.changeRepository = changeRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Object[] row = {event.getTaskId(), event.getType() == TaskChangedEvent.Type.DELETED, null};
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(Collections.singletonList(row));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> pending = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Object[]> rows = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, rows);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Flush first so the rows are stamped after the task writes they describe
+                    if (entityManager.isJoinedToTransaction()) {
+                        entityManager.flush();
+                    }
+                    write(rows);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeService.this);
+                }
+            });
+            pending = rows;
+        }
+        pending.add(row);
+    }
+
+    // The stamp only drives pruning; readers follow seq
+    private void write(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(row -> row[2] = now);
+        if (isPostgres()) {
+            jdbcTemplate.batchUpdate(POSTGRES_INSERT_SQL, rows);
+        } else {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            jdbcTemplate.update(SEQUENCE_ON_WRITE_SQL);
+        }
+    }
+
+    // Transaction ids and snapshots are PostgreSQL only
+    private boolean isPostgres() {
+        Boolean isPostgres = postgres;
+        if (isPostgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            isPostgres = "PostgreSQL".equals(product);
+            postgres = isPostgres;
+        }
+        return isPostgres;
+    }
+
+    // H2 numbers rows as they are written, so the pass only opens a transaction on PostgreSQL
+    @Override
+    @Scheduled(fixedDelayString = "${app.tasks.changes.sequence-interval:PT1S}")
+    public void sequence() {
+        if (!isPostgres()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class,
+                    SEQUENCE_LOCK_KEY);
+            if (Boolean.TRUE.equals(locked)) {
+                int sequenced = jdbcTemplate.update(SEQUENCE_SQL);
+                logger.debug("Numbered {} task changes", sequenced);
+            }
+        });
+    }
+
+    /**
+     * Returns the tasks changed after {@code since}. Without a cursor only the current
+     * end of the log is returned: clients take it before a full load and sync from there.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChangesSince(Long since, int limit) {
+        long pruned = watermarkRepository.findById(TaskChangeWatermark.PRUNED)
+                .map(TaskChangeWatermark::getSeq)
+                .orElse(0L);
+        if (since == null) {
+            Long last = changeRepository.findLastSeq();
+            return new TaskChangesResponse(List.of(), List.of(), Math.max(last != null ? last : 0L, pruned), false);
+        }
+        if (since < pruned) {
+            throw new TaskChangesExpiredException("Changes since " + since + " are no longer kept, reload all tasks");
+        }
+
+        List<TaskChange> rows = changeRepository.findAfter(since, Limit.of(limit + 1));
+        int served = Math.min(limit, rows.size());
+        if (served == 0) {
+            return new TaskChangesResponse(List.of(), List.of(), since, false);
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>();
+        rows.subList(0, served).forEach(row -> ids.add(row.getTaskId()));
+        Map<UUID, Task> tasks = taskRepository.findAllWithUsersByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // Archiving moves a task without logging a change; it is still there, not deleted
+        if (tasks.size() < ids.size()) {
+            Set<UUID> missing = new LinkedHashSet<>(ids);
+            missing.removeAll(tasks.keySet());
+            archivedTaskRepository.findAllWithUsersByIdIn(missing)
+                    .forEach(archived -> tasks.put(archived.getId(), archived.toTask()));
+        }
+        List<TaskResponse> changed = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        for (UUID id : ids) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                changed.add(new TaskResponse(task));
+            } else {
+                deleted.add(id);
+            }
+        }
+        boolean hasMore = served == limit && rows.size() > limit;
+        return new TaskChangesResponse(changed, deleted, rows.get(served - 1).getSeq(), hasMore);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.tasks.changes.prune-interval:PT1H}",
+            initialDelayString = "${app.tasks.changes.prune-interval:PT1H}")
+    public void prune() {
+        Long through = changeRepository.findLastSeqChangedBefore(LocalDateTime.now().minus(retention));
+        if (through == null) {
+            return;
+        }
+        long watermark = watermarkRepository.findById(TaskChangeWatermark.PRUNED)
+                .map(TaskChangeWatermark::getSeq)
+                .orElse(0L);
+        watermarkRepository.save(new TaskChangeWatermark(TaskChangeWatermark.PRUNED, Math.max(watermark, through)));
+        int pruned = changeRepository.deleteThrough(through);
+        logger.info("Pruned {} task changes older than {}", pruned, retention);
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+/**
+ * Task counts per {@link Status} x {@link Priority}, kept once globally and once per
+ * assignee, so reading either is a fixed-size copy regardless of the number of tasks.
+ */
+final class TaskCounters {
+
+    static final int SLOTS = Status.values().length * Priority.values().length;
+
+    private final AtomicLongArray global = new AtomicLongArray(SLOTS);
+    private final ConcurrentMap<UUID, AtomicLongArray> byAssignee = new ConcurrentHashMap<>();
+
+    static int slot(Status status, Priority priority) {
+        return status.ordinal() * Priority.values().length + priority.ordinal();
+    }
+
+    void add(Status status, Priority priority, UUID assigneeId, long delta) {
+        int slot = slot(status, priority);
+        global.addAndGet(slot, delta);
+        if (assigneeId != null) {
+            byAssignee.computeIfAbsent(assigneeId, id -> new AtomicLongArray(SLOTS)).addAndGet(slot, delta);
+        }
+    }
+
+    long[] global() {
+        return copy(global);
+    }
+
+    long[] forAssignee(UUID assigneeId) {
+        AtomicLongArray counts = byAssignee.get(assigneeId);
+        return counts != null ? copy(counts) : new long[SLOTS];
+    }
+
+    private static long[] copy(AtomicLongArray counts) {
+        long[] copy = new long[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+}
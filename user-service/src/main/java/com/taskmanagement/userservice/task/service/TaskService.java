@@ -1,69 +1,480 @@
 package com.taskmanagement.userservice.task.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import com.taskmanagement.userservice.cache.CacheInvalidationBus;
+import com.taskmanagement.userservice.config.CacheConfig;
+import com.taskmanagement.userservice.task.dto.BulkTaskResult;
+import com.taskmanagement.userservice.task.dto.TaskCursor;
+import com.taskmanagement.userservice.task.dto.TaskPatch;
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.exception.InvalidBulkRequestException;
+import com.taskmanagement.userservice.task.exception.InvalidSearchException;
+import com.taskmanagement.userservice.task.exception.TaskArchivedException;
+import com.taskmanagement.userservice.task.exception.TaskVersionMismatchException;
+import com.taskmanagement.userservice.task.model.ArchivedTask;
+import com.taskmanagement.userservice.task.model.Status;
 import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
 import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskSpecifications;
+import com.taskmanagement.userservice.user.exception.UserNotFoundException;
+import com.taskmanagement.userservice.user.model.User;
 import com.taskmanagement.userservice.user.service.IUserService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+
 @Service
 public class TaskService implements ITaskService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+
+    // Bulk creations commit in transactions of this many tasks
+    static final int BULK_CHUNK_SIZE = 1000;
+
+    // Bulk updates and deletes list at most this many ids per statement
+    static final int BULK_MUTATION_CHUNK_SIZE = 1000;
+
+    // Exported rows are dropped from the persistence context in chunks of this size
+    static final int EXPORT_CLEAR_INTERVAL = 1000;
+
+    // Tasks already loaded while handling the current HTTP request, keyed by id
+    private static final String LOADED_TASKS_ATTRIBUTE = TaskService.class.getName() + ".loadedTasks";
+
+    // Order of the keyset pages; ids compare as unsigned bytes, the way the database compares uuids
+    static final Comparator<Task> KEYSET_ORDER = Comparator.comparing(Task::getCreatedAt)
+            .thenComparing(Task::getId, TaskService::compareUuids);
+
+    // In-memory equivalents of the search sort properties, nulls last as the database sorts them ascending
+    private static final Map<String, Comparator<Task>> SEARCH_ORDERS = Map.of(
+            "createdAt", Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())),
+            "updatedAt", Comparator.comparing(Task::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder())),
+            "dueDate", Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder())),
+            "title", Comparator.comparing(Task::getTitle, Comparator.nullsLast(Comparator.naturalOrder())));
+
     private final TaskRepository taskRepository;
 
+    private final ArchivedTaskRepository archivedTaskRepository;
+
     private final IUserService userService;
 
-    public TaskService(TaskRepository taskRepository, IUserService userService) {
+    private final EntityManager entityManager;
+
+    private final Counter reusedLoads;
+
+    private final Timer cacheLoads;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+            IUserService userService, EntityManager entityManager, MeterRegistry meterRegistry,
+            CacheInvalidationBus invalidationBus, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
         this.userService = userService;
+        this.entityManager = entityManager;
+        this.invalidationBus = invalidationBus;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reusedLoads = Counter.builder("tasks.loads.reused")
+                .description("Task loads served from the current request instead of the database")
+                .register(meterRegistry);
+        // Caffeine only reports load times for loading caches, so misses are timed here
+        this.cacheLoads = Timer.builder("tasks.cache.load")
+                .description("Time spent loading a task on a cache miss")
+                .register(meterRegistry);
     }
 
+    // Drops a cached miss for the new id, should one exist
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#result.id")
     public Task createTask(Task task) {
         if (task.getAssignedUser() != null) {
             userService.getUserById(task.getAssignedUser().getId())
                     .orElseThrow(() -> new RuntimeException("Assigned user not found"));
         }
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        invalidationBus.publish(CacheInvalidationBus.TASKS, savedTask.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.from(savedTask)));
+        return savedTask;
+    }
+
+    /**
+     * Creates tasks in chunked transactions with JDBC batching. Assignees are checked
+     * with one query up front; a failing chunk is rolled back and reported without
+     * affecting the others. The ids are generated here, so unlike {@link #createTask}
+     * there is no cached entry to evict or broadcast.
+     */
+    @Override
+    public List<BulkTaskResult> createTasks(List<Task> tasks) {
+        Set<UUID> assigneeIds = tasks.stream()
+                .map(Task::getAssignedUser)
+                .filter(Objects::nonNull)
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        Set<UUID> existingIds = assigneeIds.isEmpty() ? Set.of() : userService.getExistingUserIds(assigneeIds);
+
+        List<BulkTaskResult> results = new ArrayList<>(tasks.size());
+        for (int from = 0; from < tasks.size(); from += BULK_CHUNK_SIZE) {
+            results.addAll(createChunk(tasks.subList(from, Math.min(from + BULK_CHUNK_SIZE, tasks.size())),
+                    existingIds));
+        }
+        return results;
+    }
+
+    private List<BulkTaskResult> createChunk(List<Task> chunk, Set<UUID> existingIds) {
+        BulkTaskResult[] results = new BulkTaskResult[chunk.size()];
+        List<Integer> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            User assignee = chunk.get(i).getAssignedUser();
+            if (assignee != null && !existingIds.contains(assignee.getId())) {
+                results[i] = BulkTaskResult.invalid(List.of("Assigned user not found"));
+            } else {
+                accepted.add(i);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i : accepted) {
+                    Task task = chunk.get(i);
+                    if (task.getAssignedUser() != null) {
+                        task.setAssignedUser(entityManager.getReference(User.class, task.getAssignedUser().getId()));
+                    }
+                    entityManager.persist(task);
+                    eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.from(task)));
+                }
+                entityManager.flush();
+                // Keeps the persistence context from growing with the size of the request
+                entityManager.clear();
+            });
+            for (int i : accepted) {
+                results[i] = BulkTaskResult.created(chunk.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to create a chunk of {} tasks: {}", accepted.size(), e.getMessage());
+            for (int i : accepted) {
+                results[i] = BulkTaskResult.failed("Task could not be stored");
+            }
+        }
+        return Arrays.asList(results);
     }
 
+    // Archived tasks are found too, as read-only copies; updates and deletes refuse them with 409
     @Override
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public Optional<Task> getTaskById(UUID id) {
-        return taskRepository.findById(id);
+        return cacheLoads.record(() -> loadTaskOrArchived(id));
     }
 
     @Override
-    public Task updateTask(UUID id, Task task) {
-        return taskRepository.findById(id)
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task updateTask(UUID id, Task task, Long expectedVersion) {
+        return loadWritableTask(id)
                 .map(existingTask -> {
+                    checkVersion(existingTask, expectedVersion);
+                    TaskSnapshot before = TaskSnapshot.from(existingTask);
                     existingTask.setTitle(task.getTitle());
                     existingTask.setDescription(task.getDescription());
                     existingTask.setStatus(task.getStatus());
                     existingTask.setPriority(task.getPriority());
                     existingTask.setDueDate(task.getDueDate());
                     existingTask.setAssignedUser(task.getAssignedUser());
-                    return taskRepository.save(existingTask);
+                    Task savedTask = taskRepository.save(existingTask);
+                    invalidationBus.publish(CacheInvalidationBus.TASKS, id);
+                    eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.from(savedTask)));
+                    return savedTask;
                 })
                 .orElse(null);
     }
 
+    /**
+     * Applies only the fields present in the patch to the managed task, so that dirty
+     * checking (with {@code @DynamicUpdate}) writes just those columns. The assignee is
+     * looked up only when it actually changes; a patch that changes nothing writes nothing.
+     */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task patchTask(UUID id, TaskPatch patch, Long expectedVersion) {
+        return loadWritableTask(id)
+                .map(existingTask -> {
+                    checkVersion(existingTask, expectedVersion);
+                    TaskSnapshot before = TaskSnapshot.from(existingTask);
+                    boolean changed = false;
+                    if (patch.has(TaskPatch.Field.TITLE) && !patch.getTitle().equals(before.getTitle())) {
+                        existingTask.setTitle(patch.getTitle());
+                        changed = true;
+                    }
+                    if (patch.has(TaskPatch.Field.DESCRIPTION) && !patch.getDescription().equals(before.getDescription())) {
+                        existingTask.setDescription(patch.getDescription());
+                        changed = true;
+                    }
+                    if (patch.has(TaskPatch.Field.STATUS) && patch.getStatus() != before.getStatus()) {
+                        existingTask.setStatus(patch.getStatus());
+                        changed = true;
+                    }
+                    if (patch.has(TaskPatch.Field.PRIORITY) && patch.getPriority() != before.getPriority()) {
+                        existingTask.setPriority(patch.getPriority());
+                        changed = true;
+                    }
+                    if (patch.has(TaskPatch.Field.DUE_DATE) && !Objects.equals(patch.getDueDate(), before.getDueDate())) {
+                        existingTask.setDueDate(patch.getDueDate());
+                        changed = true;
+                    }
+                    if (patch.has(TaskPatch.Field.ASSIGNED_USER_ID)
+                            && !patch.getAssignedUserId().equals(before.getAssignedUserId())) {
+                        existingTask.setAssignedUser(userService.getUserById(patch.getAssignedUserId())
+                                .orElseThrow(() -> new UserNotFoundException("User not found")));
+                        changed = true;
+                    }
+                    if (!changed) {
+                        return existingTask;
+                    }
+                    // Flushed here so the returned task and the event carry the new updatedAt
+                    Task savedTask = taskRepository.saveAndFlush(existingTask);
+                    invalidationBus.publish(CacheInvalidationBus.TASKS, id);
+                    eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.from(savedTask)));
+                    return savedTask;
+                })
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public void deleteTask(UUID id) {
-        taskRepository.deleteById(id);
+        // Loaded first so listeners learn what the task looked like before it went away
+        loadWritableTask(id).ifPresent(task -> {
+            TaskSnapshot before = TaskSnapshot.from(task);
+            taskRepository.delete(task);
+            invalidationBus.publish(CacheInvalidationBus.TASKS, id);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
+        });
+        Map<UUID, Optional<Task>> loadedTasks = loadedTasks();
+        if (loadedTasks != null) {
+            loadedTasks.remove(id);
+        }
+    }
+
+    /**
+     * Rejects a write based on an older copy of the task. A write that passes here but
+     * races another one is still caught by the {@code @Version} check when it flushes.
+     */
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionMismatchException("Task has been modified, current version is " + task.getVersion());
+        }
     }
 
+    /*
+     * The bulk mutations below lock and read the matching rows once, so that change
+     * events carry exact before states, then change them with set-based statements
+     * over those ids. Cached tasks are dropped wholesale rather than one by one.
+     */
+
     @Override
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public int changeStatus(TaskSearchCriteria criteria, Status status, int limit) {
+        List<TaskSnapshot> changing = lockMatching(criteria, limit).stream()
+                .filter(task -> task.getStatus() != status)
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        forEachIdChunk(changing, ids -> taskRepository.updateStatus(ids, status, now));
+        changing.forEach(before -> announce(TaskChangedEvent.updated(before, before.withStatus(status, now))));
+        return changing.size();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public int reassignTasks(TaskSearchCriteria criteria, UUID assignedUserId, int limit) {
+        User assignee = userService.getUserById(assignedUserId)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        List<TaskSnapshot> changing = lockMatching(criteria, limit).stream()
+                .filter(task -> !assignedUserId.equals(task.getAssignedUserId()))
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        forEachIdChunk(changing, ids -> taskRepository.updateAssignee(ids, assignee, now));
+        changing.forEach(before -> announce(
+                TaskChangedEvent.updated(before, before.withAssignedUserId(assignedUserId, now))));
+        return changing.size();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public int deleteTasks(TaskSearchCriteria criteria, int limit) {
+        List<TaskSnapshot> deleting = lockMatching(criteria, limit);
+        forEachIdChunk(deleting, taskRepository::deleteByIds);
+        deleting.forEach(before -> announce(TaskChangedEvent.deleted(before)));
+        return deleting.size();
+    }
+
+    private List<TaskSnapshot> lockMatching(TaskSearchCriteria criteria, int limit) {
+        // One extra row tells an oversized selection apart from one that is exactly at the limit
+        List<TaskSnapshot> matching = taskRepository.lockSnapshots(TaskSpecifications.matching(criteria), limit + 1);
+        if (matching.size() > limit) {
+            throw new InvalidBulkRequestException("More than " + limit + " tasks match, narrow the selection");
+        }
+        return matching;
+    }
+
+    private void forEachIdChunk(List<TaskSnapshot> tasks, Consumer<List<UUID>> action) {
+        List<UUID> ids = tasks.stream().map(TaskSnapshot::getId).collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += BULK_MUTATION_CHUNK_SIZE) {
+            action.accept(ids.subList(from, Math.min(from + BULK_MUTATION_CHUNK_SIZE, ids.size())));
+        }
+    }
+
+    // Announces a change made behind the persistence context to caches, other nodes and listeners
+    private void announce(TaskChangedEvent event) {
+        UUID id = event.getTaskId();
+        invalidationBus.publish(CacheInvalidationBus.TASKS, id);
+        eventPublisher.publishEvent(event);
+        Map<UUID, Optional<Task>> loadedTasks = loadedTasks();
+        if (loadedTasks != null) {
+            loadedTasks.remove(id);
+        }
+    }
+
+    @Override
+    public List<Task> getAllTasks(boolean includeArchived) {
+        List<Task> tasks = taskRepository.findAll();
+        if (!includeArchived) {
+            return tasks;
+        }
+        return merge(tasks, archivedTaskRepository.findAll(), KEYSET_ORDER, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Task> getTasksAfter(TaskCursor cursor, int limit, boolean includeArchived) {
+        List<Task> tasks = cursor == null
+                ? taskRepository.findFirstPage(Limit.of(limit))
+                : taskRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), Limit.of(limit));
+        if (!includeArchived) {
+            return tasks;
+        }
+        List<ArchivedTask> archived = cursor == null
+                ? archivedTaskRepository.findFirstPage(Limit.of(limit))
+                : archivedTaskRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), Limit.of(limit));
+        return merge(tasks, archived, KEYSET_ORDER, 0, limit);
+    }
+
+    @Override
+    public List<Task> getTasksAssignedTo(String username, Set<Status> statuses, TaskCursor cursor, int limit,
+            boolean includeArchived) {
+        Optional<UUID> userId = userService.getUserIdByUsername(username);
+        if (userId.isEmpty()) {
+            return List.of();
+        }
+        Set<Status> filter = statuses == null || statuses.isEmpty() ? EnumSet.allOf(Status.class) : statuses;
+        List<Task> tasks = cursor == null
+                ? taskRepository.findAssignedFirstPage(userId.get(), filter, Limit.of(limit))
+                : taskRepository.findAssignedPageAfter(userId.get(), filter, cursor.getCreatedAt(), cursor.getId(),
+                        Limit.of(limit));
+        // Only finished tasks are ever archived, so other status filters never need the archive
+        if (!includeArchived || filter.stream().noneMatch(TaskArchiver.ARCHIVED_STATUSES::contains)) {
+            return tasks;
+        }
+        List<ArchivedTask> archived = cursor == null
+                ? archivedTaskRepository.findAssignedFirstPage(userId.get(), filter, Limit.of(limit))
+                : archivedTaskRepository.findAssignedPageAfter(userId.get(), filter, cursor.getCreatedAt(),
+                        cursor.getId(), Limit.of(limit));
+        return merge(tasks, archived, KEYSET_ORDER, 0, limit);
+    }
+
+    /**
+     * Streams every task, the archive after the tasks table. Both are read in one
+     * repeatable-read transaction, so a task archived during the export appears exactly once.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportTasks(Consumer<Task> consumer) {
+        long exported = 0;
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        try (Stream<ArchivedTask> archived = archivedTaskRepository.streamAll()) {
+            Iterator<ArchivedTask> iterator = archived.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next().toTask());
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * With archived tasks included, both tables are read from the start up to the end of
+     * the requested window and the results merged in memory, so deep pages cost more.
+     */
+    @Override
+    public List<Task> searchTasks(TaskSearchCriteria criteria, Sort sort, long offset, int limit) {
+        // Ties are broken by id so that offsets stay stable between pages
+        Sort order = sort.and(Sort.by("id"));
+        if (!criteria.isIncludeArchived()) {
+            return taskRepository.search(TaskSpecifications.matching(criteria), order, offset, limit);
+        }
+        int window = Math.toIntExact(offset + limit);
+        return merge(taskRepository.search(TaskSpecifications.matching(criteria), order, 0, window),
+                archivedTaskRepository.search(TaskSpecifications.matching(criteria), order, 0, window),
+                searchOrder(sort), offset, limit);
     }
 
     @Override
     public boolean isTaskAssignedToUser(String username, UUID taskId) {
-        Optional<Task> optionalTask = taskRepository.findById(taskId);
+        Optional<Task> optionalTask = loadTaskOrArchived(taskId);
         if (optionalTask.isEmpty()) {
             return false;
         }
@@ -71,4 +482,87 @@ public class TaskService implements ITaskService {
         return task.getAssignedUser() != null && task.getAssignedUser().getUsername().equals(username);
     }
 
+    /**
+     * Loads a task at most once per HTTP request, so the {@code @PreAuthorize} check and
+     * the handler behind it share one fetch. Outside a request it goes straight to the repository.
+     */
+    private Optional<Task> loadTask(UUID id) {
+        Map<UUID, Optional<Task>> loadedTasks = loadedTasks();
+        if (loadedTasks == null) {
+            return taskRepository.findById(id);
+        }
+        Optional<Task> task = loadedTasks.get(id);
+        if (task != null) {
+            reusedLoads.increment();
+            return task;
+        }
+        task = taskRepository.findById(id);
+        loadedTasks.put(id, task);
+        return task;
+    }
+
+    // The archive is read-only, so a write to an archived task is refused instead of
+    // answered as if the task did not exist; only a miss pays for the archive lookup
+    private Optional<Task> loadWritableTask(UUID id) {
+        Optional<Task> task = loadTask(id);
+        if (task.isEmpty() && archivedTaskRepository.existsById(id)) {
+            throw new TaskArchivedException("Task is archived and can no longer be changed");
+        }
+        return task;
+    }
+
+    // Archived copies are not remembered for the request, so writes never pick one up
+    private Optional<Task> loadTaskOrArchived(UUID id) {
+        Optional<Task> task = loadTask(id);
+        if (task.isPresent()) {
+            return task;
+        }
+        return archivedTaskRepository.findById(id).map(ArchivedTask::toTask);
+    }
+
+    private static List<Task> merge(List<Task> tasks, List<ArchivedTask> archived, Comparator<Task> order,
+            long offset, int limit) {
+        return Stream.concat(tasks.stream(), archived.stream().map(ArchivedTask::toTask))
+                .sorted(order)
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static Comparator<Task> searchOrder(Sort sort) {
+        Comparator<Task> order = null;
+        for (Sort.Order property : sort) {
+            Comparator<Task> comparator = SEARCH_ORDERS.get(property.getProperty());
+            if (comparator == null) {
+                throw new InvalidSearchException("Unsupported sort property: " + property.getProperty());
+            }
+            if (property.isDescending()) {
+                comparator = comparator.reversed();
+            }
+            order = order == null ? comparator : order.thenComparing(comparator);
+        }
+        return order == null ? KEYSET_ORDER : order.thenComparing(Task::getId, TaskService::compareUuids);
+    }
+
+    static int compareUuids(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Optional<Task>> loadedTasks() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<UUID, Optional<Task>> loadedTasks = (Map<UUID, Optional<Task>>) attributes
+                .getAttribute(LOADED_TASKS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (loadedTasks == null) {
+            loadedTasks = new HashMap<>();
+            attributes.setAttribute(LOADED_TASKS_ATTRIBUTE, loadedTasks, RequestAttributes.SCOPE_REQUEST);
+        }
+        return loadedTasks;
+    }
+
 }
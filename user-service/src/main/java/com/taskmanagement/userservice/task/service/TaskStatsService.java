@@ -0,0 +1,239 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanagement.userservice.task.dto.TaskStatsResponse;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskCountRow;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskStateRow;
+import com.taskmanagement.userservice.user.service.IUserService;
+
+/**
+ * Serves task statistics from in-memory counters that follow every committed task
+ * change, and periodically rebuilds them from a {@code GROUP BY} over the tasks and
+ * archive tables to correct drift (writes that bypass the service, changes made on other instances).
+ */
+@Service
+public class TaskStatsService implements ITaskStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsService.class);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final IUserService userService;
+    private final TransactionTemplate snapshotTemplate;
+
+    // Readers of the counters hold the read lock; swapping in rebuilt counters takes the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TaskCounters counters = new TaskCounters();
+    // Changes seen while a rebuild runs, reconciled against the rebuilt counters
+    private List<TaskChangedEvent> replay;
+
+    public TaskStatsService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+            IUserService userService, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.userService = userService;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            apply(counters, event);
+            if (replay != null) {
+                synchronized (replay) {
+                    replay.add(event);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public TaskStatsResponse getStats() {
+        return toResponse(current().global());
+    }
+
+    @Override
+    public TaskStatsResponse getStatsForUser(UUID userId) {
+        return toResponse(current().forAssignee(userId));
+    }
+
+    @Override
+    public TaskStatsResponse getStatsForUsername(String username) {
+        return userService.getUserIdByUsername(username)
+                .map(this::getStatsForUser)
+                .orElseGet(() -> toResponse(new long[TaskCounters.SLOTS]));
+    }
+
+    // The counters start empty, so they are filled before the application takes traffic
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the counters from one repeatable-read snapshot of both tables. Changes
+     * delivered while it runs may or may not be in that snapshot, so instead of replaying
+     * them blindly each touched task is moved from the state the snapshot saw to the
+     * state its last change left it in; a change counted by the query is not counted twice.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.tasks.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${app.tasks.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            snapshotTemplate.executeWithoutResult(status -> rebuild());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void rebuild() {
+        TaskCounters rebuilt = new TaskCounters();
+        for (TaskCountRow row : taskRepository.countByStatusPriorityAndAssignee()) {
+            rebuilt.add(row.getStatus(), row.getPriority(), row.getAssignedUserId(), row.getCount());
+        }
+        for (TaskCountRow row : archivedTaskRepository.countByStatusPriorityAndAssignee()) {
+            rebuilt.add(row.getStatus(), row.getPriority(), row.getAssignedUserId(), row.getCount());
+        }
+
+        // Look up most touched tasks without blocking writers, then the stragglers under the lock
+        Map<UUID, TaskStateRow> seen = new HashMap<>();
+        Set<UUID> looked = new HashSet<>();
+        lookUp(replayedTaskIds(), looked, seen);
+
+        lock.writeLock().lock();
+        try {
+            Map<UUID, TaskSnapshot> latest = new LinkedHashMap<>();
+            for (TaskChangedEvent event : replay) {
+                latest.put(event.getTaskId(), event.getAfter());
+            }
+            lookUp(latest.keySet(), looked, seen);
+            latest.forEach((taskId, after) -> {
+                TaskStateRow counted = seen.get(taskId);
+                if (counted != null) {
+                    rebuilt.add(counted.getStatus(), counted.getPriority(), counted.getAssignedUserId(), -1);
+                }
+                if (after != null) {
+                    rebuilt.add(after.getStatus(), after.getPriority(), after.getAssignedUserId(), 1);
+                }
+            });
+            int corrected = countDifferences(counters.global(), rebuilt.global());
+            if (corrected > 0) {
+                logger.info("Task statistics reconciled, {} global counters corrected", corrected);
+            }
+            counters = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<UUID> replayedTaskIds() {
+        Set<UUID> ids = new HashSet<>();
+        synchronized (replay) {
+            replay.forEach(event -> ids.add(event.getTaskId()));
+        }
+        return ids;
+    }
+
+    // Runs inside the snapshot transaction, so it sees each task as the counts did
+    private void lookUp(Set<UUID> taskIds, Set<UUID> looked, Map<UUID, TaskStateRow> seen) {
+        List<UUID> missing = new ArrayList<>();
+        for (UUID taskId : taskIds) {
+            if (looked.add(taskId)) {
+                missing.add(taskId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        taskRepository.findStatesByIdIn(missing).forEach(row -> seen.put(row.getId(), row));
+        archivedTaskRepository.findStatesByIdIn(missing).forEach(row -> seen.put(row.getId(), row));
+    }
+
+    private TaskCounters current() {
+        lock.readLock().lock();
+        try {
+            return counters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(TaskCounters target, TaskChangedEvent event) {
+        TaskSnapshot before = event.getBefore();
+        TaskSnapshot after = event.getAfter();
+        if (before != null) {
+            target.add(before.getStatus(), before.getPriority(), before.getAssignedUserId(), -1);
+        }
+        if (after != null) {
+            target.add(after.getStatus(), after.getPriority(), after.getAssignedUserId(), 1);
+        }
+    }
+
+    private static int countDifferences(long[] left, long[] right) {
+        int differences = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] != right[i]) {
+                differences++;
+            }
+        }
+        return differences;
+    }
+
+    private static TaskStatsResponse toResponse(long[] slots) {
+        Map<Status, Map<Priority, Long>> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, slots[TaskCounters.slot(status, priority)]);
+            }
+            counts.put(status, byPriority);
+        }
+        return new TaskStatsResponse(counts);
+    }
+}
@@ -0,0 +1,172 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed task changes to subscribers over Server-Sent Events. Each change is
+ * serialized once and fanned out to the subscribers allowed to see it; users only
+ * receive changes to tasks assigned to them, where a task moved to or away from them
+ * arrives as created or deleted. Open streams hold no request thread: the servlet
+ * request is asynchronous and writes happen on a small shared sender pool. A client
+ * that stops reading is evicted once a send to it outlasts the send timeout, so it
+ * cannot keep a sender thread from the others.
+ */
+@Service
+public class TaskStreamService implements ITaskStreamService {
+
+    static final String CREATED = "created";
+    static final String UPDATED = "updated";
+    static final String DELETED = "deleted";
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStreamService.class);
+
+    private final Set<TaskStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sender;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final int bufferSize;
+    private final Counter dropped;
+    private final Counter stalled;
+
+    public TaskStreamService(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.tasks.stream.timeout:PT30M}") Duration timeout,
+            @Value("${app.tasks.stream.buffer-size:1024}") int bufferSize,
+            @Value("${app.tasks.stream.sender-threads:4}") int senderThreads,
+            @Value("${app.tasks.stream.send-timeout:PT5S}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.bufferSize = bufferSize;
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("task-stream-"));
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasks.stream.dropped")
+                .description("Task event streams closed because the client fell behind")
+                .register(meterRegistry);
+        this.stalled = Counter.builder("tasks.stream.stalled")
+                .description("Task event streams closed because a send blocked past the send timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID assigneeId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, assigneeId, bufferSize, sender,
+                sendTimeout);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // Ends the stream normally instead of answering 503; clients reconnect
+        emitter.onTimeout(subscriber::close);
+        subscribers.add(subscriber);
+        // Commits the response headers right away
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String after = event.getAfter() != null ? toJson(event.getAfter()) : null;
+        String before = event.getBefore() != null ? toJson(event.getBefore()) : null;
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            String name = visibleAs(event, subscriber.getAssigneeId());
+            if (name == null) {
+                continue;
+            }
+            String data = name.equals(DELETED) ? before : after;
+            if (!subscriber.offer(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON))) {
+                subscribers.remove(subscriber);
+                dropped.increment();
+                logger.info("Closed a task stream for assignee {} that fell {} events behind",
+                        subscriber.getAssigneeId(), bufferSize);
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.tasks.stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(TaskStreamSubscriber::heartbeat);
+        subscribers.removeIf(TaskStreamSubscriber::isClosed);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.stream.stall-check:PT1S}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            if (subscriber.evictIfStalled(now)) {
+                subscribers.remove(subscriber);
+                stalled.increment();
+                logger.info("Closed a task stream for assignee {} whose send blocked for over {}",
+                        subscriber.getAssigneeId(), sendTimeout);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(TaskStreamSubscriber::close);
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    /**
+     * Returns the event name under which a subscriber sees the change, or {@code null}
+     * when it is not visible to them. A {@code null} assignee sees every change as is.
+     */
+    static String visibleAs(TaskChangedEvent event, UUID assigneeId) {
+        String name = switch (event.getType()) {
+            case CREATED -> CREATED;
+            case UPDATED -> UPDATED;
+            case DELETED -> DELETED;
+        };
+        if (assigneeId == null) {
+            return name;
+        }
+        boolean wasAssigned = event.getBefore() != null && assigneeId.equals(event.getBefore().getAssignedUserId());
+        boolean isAssigned = event.getAfter() != null && assigneeId.equals(event.getAfter().getAssignedUserId());
+        if (wasAssigned && isAssigned) {
+            return name;
+        }
+        if (isAssigned) {
+            return CREATED;
+        }
+        return wasAssigned ? DELETED : null;
+    }
+
+    private String toJson(TaskSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task " + snapshot.getId(), e);
+        }
+    }
+}
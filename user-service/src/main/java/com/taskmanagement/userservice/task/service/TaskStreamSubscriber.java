@@ -0,0 +1,153 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One open task stream. Events wait in a bounded queue and are written by a shared
+ * sender pool, at most one drain per subscriber at a time, so no thread is tied to a
+ * connection while it is idle. A subscriber whose queue overflows is disconnected.
+ *
+ * <p>{@link SseEmitter#send} blocks while the client does not read, so a few stalled
+ * clients could hold every sender thread and let the healthy subscribers overflow. Each
+ * send therefore has a deadline: {@link #evictIfStalled} interrupts a send that runs
+ * past it, which closes the connection under the blocked write and frees the thread.
+ */
+final class TaskStreamSubscriber {
+
+    private final SseEmitter emitter;
+    // Null for subscribers that see every task
+    private final UUID assigneeId;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Executor sender;
+    private final long sendTimeoutNanos;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    // The thread inside emitter.send and when it entered; guarded by this
+    private Thread sendingThread;
+    private long sendStartedNanos;
+
+    TaskStreamSubscriber(SseEmitter emitter, UUID assigneeId, int bufferSize, Executor sender,
+            Duration sendTimeout) {
+        this.emitter = emitter;
+        this.assigneeId = assigneeId;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+    }
+
+    UUID getAssigneeId() {
+        return assigneeId;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Queues an event for sending. Returns {@code false} if the queue was full, in which
+     * case the subscriber has been closed and the client is expected to reconnect and resync.
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return true;
+        }
+        if (!queue.offer(event)) {
+            close();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    // Only sent when nothing else is pending, as any event proves the connection alive
+    void heartbeat() {
+        if (queue.isEmpty()) {
+            offer(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        finish();
+    }
+
+    /**
+     * Closes the subscriber if a send has been blocked longer than the send timeout and
+     * interrupts the sending thread, whose write then fails and completes the emitter.
+     * Completing it here would wait behind the stuck write.
+     */
+    synchronized boolean evictIfStalled(long nowNanos) {
+        if (sendingThread == null || nowNanos - sendStartedNanos < sendTimeoutNanos) {
+            return false;
+        }
+        closed = true;
+        queue.clear();
+        sendingThread.interrupt();
+        sendingThread = null;
+        return true;
+    }
+
+    private void schedule() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = queue.poll()) != null) {
+                send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away, the send was evicted, or the emitter already completed
+            closed = true;
+            finish();
+        } finally {
+            draining.set(false);
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+        synchronized (this) {
+            sendingThread = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+        try {
+            emitter.send(event);
+        } finally {
+            synchronized (this) {
+                sendingThread = null;
+                // An eviction racing with a send that just finished must not hit the next subscriber
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private void finish() {
+        queue.clear();
+        emitter.complete();
+    }
+}
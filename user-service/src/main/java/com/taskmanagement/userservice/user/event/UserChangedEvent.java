@@ -0,0 +1,50 @@
+package com.taskmanagement.userservice.user.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the user service after a user is created, updated or deleted.
+ * {@code user} is null for deletions.
+ */
+public final class UserChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final UUID userId;
+    private final UserSnapshot user;
+
+    private UserChangedEvent(Type type, UUID userId, UserSnapshot user) {
+        this.type = type;
+        this.userId = userId;
+        this.user = user;
+    }
+
+    public static UserChangedEvent created(UserSnapshot user) {
+        return new UserChangedEvent(Type.CREATED, user.getId(), user);
+    }
+
+    public static UserChangedEvent updated(UserSnapshot user) {
+        return new UserChangedEvent(Type.UPDATED, user.getId(), user);
+    }
+
+    public static UserChangedEvent deleted(UUID userId) {
+        return new UserChangedEvent(Type.DELETED, userId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UserSnapshot getUser() {
+        return user;
+    }
+}
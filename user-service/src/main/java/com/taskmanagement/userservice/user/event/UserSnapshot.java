@@ -0,0 +1,45 @@
+package com.taskmanagement.userservice.user.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+
+/**
+ * Immutable copy of the public fields of a user. The password never leaves the entity.
+ */
+public final class UserSnapshot {
+
+    private final UUID id;
+    private final String username;
+    private final String email;
+    private final Set<Role> roles;
+
+    public UserSnapshot(UUID id, String username, String email, Set<Role> roles) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.roles = roles != null ? Set.copyOf(roles) : Set.of();
+    }
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getUsername(), user.getEmail(), user.getRoles());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Set<Role> getRoles() {
+        return roles;
+    }
+}
@@ -6,6 +6,11 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -31,6 +36,8 @@ import jakarta.validation.constraints.Size;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users.username")
 public class User implements UserDetails {
     
     @Id
@@ -39,6 +46,7 @@ public class User implements UserDetails {
 
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String username;
 
@@ -53,7 +61,10 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String email;
 
+    // Roles of every user in a task page are loaded in one select instead of one per user
     @ElementCollection(fetch=FetchType.EAGER)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users.roles")
     @CollectionTable(name="user_roles",joinColumns=@JoinColumn(name="user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name="role")
@@ -1,12 +1,17 @@
 package com.taskmanagement.userservice.user.repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.taskmanagement.userservice.user.model.User;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
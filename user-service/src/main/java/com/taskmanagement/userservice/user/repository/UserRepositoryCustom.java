@@ -0,0 +1,20 @@
+package com.taskmanagement.userservice.user.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taskmanagement.userservice.user.model.User;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Looks a user up by its username natural id, so repeated lookups are answered
+     * from the second-level cache instead of a query.
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * Resolves only the key of a user, without loading the user or its roles.
+     */
+    Optional<UUID> findIdByUsername(String username);
+}
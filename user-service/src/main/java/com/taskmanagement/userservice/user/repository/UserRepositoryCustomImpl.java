@@ -0,0 +1,37 @@
+package com.taskmanagement.userservice.user.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskmanagement.userservice.user.model.User;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional(readOnly = true)
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    UserRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+
+    @Override
+    public Optional<UUID> findIdByUsername(String username) {
+        // Resolves the natural id to an uninitialized reference; reading its id does not load it
+        User user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .getReference(username);
+        return Optional.ofNullable(user).map(User::getId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.taskmanagement.userservice.user.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,6 +21,10 @@ public interface IUserService {
 
     User getUserByUsername(String username);
 
+    Optional<UUID> getUserIdByUsername(String username);
+
+    Set<UUID> getExistingUserIds(Collection<UUID> ids);
+
     User updateUser(UUID id, User user);
 
     void deleteUser(UUID id);
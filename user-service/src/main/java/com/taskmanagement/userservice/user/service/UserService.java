@@ -1,17 +1,30 @@
 package com.taskmanagement.userservice.user.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.taskmanagement.userservice.cache.CacheInvalidationBus;
+import com.taskmanagement.userservice.config.CacheConfig;
+import com.taskmanagement.userservice.user.event.UserChangedEvent;
+import com.taskmanagement.userservice.user.event.UserSnapshot;
 import com.taskmanagement.userservice.user.model.User;
 import com.taskmanagement.userservice.user.repository.UserRepository;
 
@@ -20,12 +33,25 @@ public class UserService implements IUserService, UserDetailsService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    // Keeps IN lists well below the bind parameter limits of the drivers
+    static final int ID_LOOKUP_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CacheInvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+    // Writes that hash a password open their transaction only once the hash is done, so no
+    // connection is held through the wait for a hashing thread and the hash itself
+    private final TransactionTemplate transactionTemplate;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            CacheInvalidationBus invalidationBus, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.invalidationBus = invalidationBus;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -37,7 +63,11 @@ public class UserService implements IUserService, UserDetailsService {
     @Override
     public User createUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        return transactionTemplate.execute(status -> {
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.created(UserSnapshot.from(savedUser)));
+            return savedUser;
+        });
     }
 
     @Override
@@ -52,23 +82,55 @@ public class UserService implements IUserService, UserDetailsService {
     }
 
     @Override
+    public Optional<UUID> getUserIdByUsername(String username) {
+        return userRepository.findIdByUsername(username);
+    }
+
+    @Override
+    public Set<UUID> getExistingUserIds(Collection<UUID> ids) {
+        List<UUID> idList = new ArrayList<>(ids);
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < idList.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            existing.addAll(userRepository.findExistingIds(
+                    idList.subList(from, Math.min(from + ID_LOOKUP_CHUNK_SIZE, idList.size()))));
+        }
+        return existing;
+    }
+
+    // Cached tasks embed their users, so any user change drops them all
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
     public User updateUser(UUID id, User user) {
-        return userRepository.findById(id)
+        String encodedPassword = user.getPassword() != null && !user.getPassword().isEmpty()
+                ? passwordEncoder.encode(user.getPassword())
+                : null;
+        return transactionTemplate.execute(status -> userRepository.findById(id)
                 .map(existingUser -> {
                     existingUser.setUsername(user.getUsername());
                     existingUser.setEmail(user.getEmail());
-                    existingUser.setRoles(user.getRoles());
-                    if (user.getPassword() != null && !user.getPassword().isEmpty()) {
-                        existingUser.setPassword(passwordEncoder.encode(user.getPassword()));
+                    // The managed user's role collection must stay mutable
+                    existingUser.setRoles(user.getRoles() != null ? new HashSet<>(user.getRoles()) : null);
+                    if (encodedPassword != null) {
+                        existingUser.setPassword(encodedPassword);
                     }
-                    return userRepository.save(existingUser);
+                    User savedUser = userRepository.save(existingUser);
+                    invalidationBus.publish(CacheInvalidationBus.USERS, id);
+                    eventPublisher.publishEvent(UserChangedEvent.updated(UserSnapshot.from(savedUser)));
+                    return savedUser;
                 })
-                .orElse(null);
+                .orElse(null));
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
     public void deleteUser(UUID id) {
+        if (!userRepository.existsById(id)) {
+            return;
+        }
         userRepository.deleteById(id);
+        invalidationBus.publish(CacheInvalidationBus.USERS, id);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
     }
 
     @Override
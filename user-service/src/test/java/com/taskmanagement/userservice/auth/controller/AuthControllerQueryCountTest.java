@@ -0,0 +1,121 @@
+package com.taskmanagement.userservice.auth.controller;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+import com.taskmanagement.userservice.user.repository.UserRepository;
+import com.taskmanagement.userservice.user.service.IUserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the number of SQL statements behind a login: the user is looked up once, by
+ * the authentication itself, and that principal is what the response is built from.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:auth-query-count;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "eureka.client.enabled=false",
+    "app.init-db=false",
+    "app.cache.invalidation.enabled=false",
+    "app.outbox.relay.enabled=false",
+    "app.reminders.enabled=false"
+})
+@AutoConfigureMockMvc
+class AuthControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAll();
+        userRepository.deleteAll();
+        userService.createUser(new User("alice", "password", "alice@example.com", Set.of(Role.USER, Role.ADMIN)));
+
+        // Start every test with a cold second-level cache
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void whenLogin_thenUserIsLookedUpOnce() throws Exception {
+        login("alice", "password")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.user.username").value("alice"))
+                .andExpect(jsonPath("$.user.roles.length()").value(2));
+
+        // One select for the user joined to its roles, in the authentication's transaction
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdQueryExecutionCount());
+        assertEquals(1, statistics.getTransactionCount());
+    }
+
+    @Test
+    void whenLoginRepeats_thenUserComesFromTheCache() throws Exception {
+        login("alice", "password").andExpect(status().isOk());
+        statistics.clear();
+
+        login("alice", "password")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("alice"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+        assertEquals(1, statistics.getTransactionCount());
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))));
+    }
+}
@@ -1,9 +1,13 @@
 package com.taskmanagement.userservice.auth.controller;
 
+import java.time.Duration;
+import java.util.Set;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.Test;
@@ -16,8 +20,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskmanagement.userservice.auth.dto.LoginRequest;
+import com.taskmanagement.userservice.auth.dto.LoginResponse;
 import com.taskmanagement.userservice.auth.service.IAuthService;
 import com.taskmanagement.userservice.security.SecurityConfigTest;
+import com.taskmanagement.userservice.security.password.PasswordHashingSaturatedException;
+import com.taskmanagement.userservice.user.dto.UserResponse;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
 
 @WebMvcTest(AuthController.class)
 @Import(SecurityConfigTest.class)
@@ -39,14 +48,32 @@ class AuthControllerTest {
         loginRequest.setPassword("password");
 
         String token="valid.jwt.token";
-        when(authService.authenticateAndGetToken(anyString(),anyString())).thenReturn(token);
+        User user = new User("testuser", "password", "testuser@example.com", Set.of(Role.USER));
+        when(authService.login(anyString(),anyString())).thenReturn(new LoginResponse(token, new UserResponse(user)));
 
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
-                .andExpect(content().string(token));
+                .andExpect(jsonPath("$.token").value(token))
+                .andExpect(jsonPath("$.user.username").value("testuser"));
+
+    }
 
+    @Test
+    void whenPasswordHashingIsSaturated_thenReturns503WithRetryAfter() throws Exception {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("password");
+        when(authService.login(anyString(), anyString()))
+                .thenThrow(new PasswordHashingSaturatedException("Too many password checks in progress, retry later",
+                        Duration.ofSeconds(2)));
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
     }
 
     @Test
@@ -0,0 +1,45 @@
+package com.taskmanagement.userservice.auth.controller;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.taskmanagement.userservice.security.jwt.JwtKeyRing;
+import com.taskmanagement.userservice.security.jwt.TestKeys;
+
+class JwksControllerTest {
+
+    private JwtKeyRing keyRing;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyRing = new JwtKeyRing(List.of(
+                JwtKeyRing.fromPem(TestKeys.pem(TestKeys.ES256)),
+                JwtKeyRing.fromPem(TestKeys.pem(TestKeys.ED25519))),
+                "ES256");
+        mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(keyRing)).build();
+    }
+
+    @Test
+    void whenJwksRequested_thenPublicKeysAreReturnedWithTheirKids() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys", hasSize(2)))
+                .andExpect(jsonPath("$.keys[0].kid").value(keyRing.getSigningKey().getKeyID()))
+                .andExpect(jsonPath("$.keys[0].alg").value("ES256"))
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist())
+                .andExpect(jsonPath("$.keys[1].alg").value("EdDSA"))
+                .andExpect(jsonPath("$.keys[1].crv").value("Ed25519"));
+    }
+}
@@ -3,8 +3,12 @@ package com.taskmanagement.userservice.auth.service;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -17,6 +21,10 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import com.taskmanagement.userservice.auth.dto.LoginResponse;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+
 class AuthServiceTest {
 
     @Mock
@@ -55,4 +63,27 @@ class AuthServiceTest {
         assertEquals("token", token);
     }
 
+    @Test
+    void whenLogin_thenAuthenticatedPrincipalIsReturnedWithToken() {
+        // Arrange
+        User user = new User("testuser", "password", "testuser@example.com", Set.of(Role.USER));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
+
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("sub", "testuser")
+                .build();
+        when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+
+        // Act
+        LoginResponse response = authService.login("testuser", "password");
+
+        // Assert
+        assertEquals("token", response.getToken());
+        assertEquals("testuser", response.getUser().getUsername());
+        assertEquals(Set.of(Role.USER), response.getUser().getRoles());
+        verify(authenticationManager, times(1)).authenticate(any(Authentication.class));
+    }
+
 }
@@ -0,0 +1,132 @@
+package com.taskmanagement.userservice.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bus = new CacheInvalidationBus(jdbcTemplate, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(bus);
+    }
+
+    @Test
+    void whenPublishOutsideTransaction_thenNotifiesImmediately() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+
+        // Act
+        bus.publish(CacheInvalidationBus.TASKS, taskId);
+
+        // Assert
+        verify(jdbcTemplate).queryForObject("select pg_notify(?, ?)", Object.class, CacheInvalidationBus.CHANNEL,
+                bus.getNodeId() + "\ntasks " + taskId);
+    }
+
+    @Test
+    void whenPublishInsideTransaction_thenOneNotifyBeforeCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        bus.publish(CacheInvalidationBus.TASKS, taskId);
+        bus.publish(CacheInvalidationBus.USERS, userId);
+        bus.publish(CacheInvalidationBus.TASKS, taskId);
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.get(0).beforeCommit(false);
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        verify(jdbcTemplate, times(1)).queryForObject("select pg_notify(?, ?)", Object.class,
+                CacheInvalidationBus.CHANNEL, bus.getNodeId() + "\ntasks " + taskId + "\nusers " + userId);
+    }
+
+    @Test
+    void whenTransactionRollsBack_thenNothingIsNotified() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        bus.publish(CacheInvalidationBus.TASKS, UUID.randomUUID());
+        TransactionSynchronizationManager.getSynchronizations().get(0)
+                .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+        assertTrue(TransactionSynchronizationManager.getResource(bus) == null);
+    }
+
+    @Test
+    void whenDisabled_thenNothingIsNotified() {
+        // Arrange
+        CacheInvalidationBus disabledBus = new CacheInvalidationBus(jdbcTemplate, false);
+
+        // Act
+        disabledBus.publish(CacheInvalidationBus.TASKS, UUID.randomUUID());
+
+        // Assert
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Object.class), any(), any());
+    }
+
+    @Test
+    void whenManyEntries_thenPayloadsStayUnderNotifyLimit() {
+        // Arrange
+        List<String> entries = IntStream.range(0, 500)
+                .mapToObj(i -> "tasks " + UUID.randomUUID())
+                .collect(Collectors.toList());
+
+        // Act
+        List<String> payloads = CacheInvalidationBus.toPayloads("node", entries);
+
+        // Assert
+        assertTrue(payloads.size() > 1);
+        int delivered = 0;
+        for (String payload : payloads) {
+            assertTrue(payload.length() <= CacheInvalidationBus.MAX_PAYLOAD_BYTES);
+            assertTrue(payload.startsWith("node\n"));
+            delivered += payload.split("\n").length - 1;
+        }
+        assertEquals(entries.size(), delivered);
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskmanagement.userservice.cache;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Runs the invalidation bus against a real, embedded PostgreSQL: one node publishes,
+ * another node's listener applies the invalidations.
+ */
+class CacheInvalidationListenerTest {
+
+    private static EmbeddedPostgres postgres;
+
+    private CacheInvalidationHandler handler;
+    private CacheInvalidationBus publisher;
+    private CacheInvalidationBus listenerBus;
+    private CacheInvalidationListener listener;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = postgres.getPostgresDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        publisher = new CacheInvalidationBus(jdbcTemplate, true);
+        listenerBus = new CacheInvalidationBus(jdbcTemplate, true);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        properties.setUsername("postgres");
+        properties.setPassword("postgres");
+
+        handler = mock(CacheInvalidationHandler.class);
+        listener = new CacheInvalidationListener(listenerBus, handler, properties, 100, 50, 200);
+        listener.start();
+        verify(handler, timeout(5000)).evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void whenOtherNodePublishes_thenListenerEvicts() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+
+        // Act
+        publisher.publish(CacheInvalidationBus.TASKS, taskId);
+
+        // Assert
+        verify(handler, timeout(5000)).evict(CacheInvalidationBus.TASKS, taskId.toString());
+    }
+
+    @Test
+    void whenPublishedInTransaction_thenDeliveredOnlyAfterCommit() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(CacheInvalidationBus.TASKS, taskId);
+            publisher.publish(CacheInvalidationBus.USERS, userId);
+            verify(handler, after(300).never()).evict(anyString(), anyString());
+        });
+
+        // Assert
+        verify(handler, timeout(5000)).evict(CacheInvalidationBus.TASKS, taskId.toString());
+        verify(handler, timeout(5000)).evict(CacheInvalidationBus.USERS, userId.toString());
+    }
+
+    @Test
+    void whenTransactionRollsBack_thenNothingIsDelivered() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(CacheInvalidationBus.TASKS, UUID.randomUUID());
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        verify(handler, after(500).never()).evict(anyString(), anyString());
+    }
+
+    @Test
+    void whenNodePublishes_thenItsOwnListenerSkipsIt() {
+        // Act
+        listenerBus.publish(CacheInvalidationBus.TASKS, UUID.randomUUID());
+
+        // Assert
+        verify(handler, after(500).never()).evict(anyString(), anyString());
+    }
+
+    @Test
+    void whenConnectionIsKilled_thenListenerReconnectsAndClearsCaches() {
+        // Arrange
+        JdbcTemplate admin = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        // Act
+        Integer terminated = admin.queryForObject("select count(pg_terminate_backend(pid)) from pg_stat_activity"
+                + " where application_name = ?", Integer.class, CacheInvalidationListener.APPLICATION_NAME);
+
+        // Assert
+        assertTrue(terminated != null && terminated == 1);
+        verify(handler, timeout(5000).times(2)).evictAll();
+        UUID taskId = UUID.randomUUID();
+        publisher.publish(CacheInvalidationBus.TASKS, taskId);
+        verify(handler, timeout(5000)).evict(CacheInvalidationBus.TASKS, taskId.toString());
+        verify(handler, times(2)).evictAll();
+    }
+}
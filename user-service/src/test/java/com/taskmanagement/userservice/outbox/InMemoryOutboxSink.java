@@ -0,0 +1,35 @@
+package com.taskmanagement.userservice.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects published events for assertions, and can be told to fail the next batch.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> published = new ArrayList<>();
+    private boolean failNext;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        if (failNext) {
+            failNext = false;
+            throw new IllegalStateException("Sink unavailable");
+        }
+        published.addAll(events);
+    }
+
+    public synchronized List<OutboxEvent> getPublished() {
+        return new ArrayList<>(published);
+    }
+
+    public synchronized void failNext() {
+        failNext = true;
+    }
+
+    public synchronized void clear() {
+        published.clear();
+        failNext = false;
+    }
+}
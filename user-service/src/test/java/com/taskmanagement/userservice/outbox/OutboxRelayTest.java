@@ -0,0 +1,143 @@
+package com.taskmanagement.userservice.outbox;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.task.service.ITaskService;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+import com.taskmanagement.userservice.user.repository.UserRepository;
+import com.taskmanagement.userservice.user.service.IUserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Checks that task and user changes reach the sink exactly when they commit, and that a
+ * failing sink leaves its batch in the outbox for the next poll.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "eureka.client.enabled=false",
+    "app.init-db=false",
+    "app.cache.invalidation.enabled=false",
+    "app.outbox.relay.enabled=true",
+    // Polled by hand below
+    "app.outbox.relay.poll-interval=PT1H",
+    "app.outbox.relay.batch-size=2"
+})
+class OutboxRelayTest {
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        @Primary
+        InMemoryOutboxSink inMemoryOutboxSink() {
+            return new InMemoryOutboxSink();
+        }
+    }
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ITaskService taskService;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        outboxRepository.deleteAll();
+        sink.clear();
+    }
+
+    @Test
+    void whenTaskAndUserChange_thenRelayPublishesEveryEventOnce() {
+        // Arrange
+        User user = userService.createUser(new User("outbox", "password", "outbox@example.com", Set.of(Role.USER)));
+        Task task = taskService.createTask(new Task(null, "Outbox task", "Description", Status.TODO, Priority.LOW,
+                null, user, null));
+        taskService.deleteTask(task.getId());
+
+        // Act
+        relay.relay();
+        relay.relay();
+
+        // Assert
+        List<String> types = sink.getPublished().stream().map(OutboxEvent::getEventType).toList();
+        assertEquals(List.of("user.created", "task.created", "task.deleted"), types);
+        assertTrue(sink.getPublished().get(0).getPayload().contains("\"username\":\"outbox\""));
+        assertFalse(sink.getPublished().get(0).getPayload().contains("password"));
+        assertTrue(outboxRepository.findAll().stream().allMatch(event -> event.getPublishedAt() != null));
+        assertEquals(2, meterRegistry.get("outbox.relay.batch.size").summary().count());
+    }
+
+    @Test
+    void whenChangeRolledBack_thenNothingIsWrittenToOutbox() {
+        // Arrange: the assignee does not exist, so creation fails inside the transaction
+        User ghost = new User();
+        ghost.setId(UUID.randomUUID());
+
+        // Act
+        assertThrows(RuntimeException.class, () -> taskService.createTask(new Task(null, "Outbox task",
+                "Description", Status.TODO, Priority.LOW, null, ghost, null)));
+
+        // Assert
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void whenSinkFails_thenBatchStaysPendingUntilNextPoll() {
+        // Arrange
+        userService.createUser(new User("retry", "password", "retry@example.com", Set.of(Role.USER)));
+        sink.failNext();
+
+        // Act
+        relay.relay();
+
+        // Assert
+        assertTrue(sink.getPublished().isEmpty());
+        assertEquals(1, outboxRepository.findAll().stream().filter(event -> event.getPublishedAt() == null).count());
+        relay.relay();
+        assertEquals(1, sink.getPublished().size());
+    }
+}
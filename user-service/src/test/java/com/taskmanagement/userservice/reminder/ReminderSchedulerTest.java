@@ -0,0 +1,217 @@
+package com.taskmanagement.userservice.reminder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.TaskChange;
+import com.taskmanagement.userservice.task.repository.TaskChangeRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReminderSchedulerTest {
+
+    private static final Duration LEAD = Duration.ofMinutes(15);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskChangeRepository changeRepository;
+
+    @Mock
+    private ReminderNotifier notifier;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReminderScheduler scheduler;
+
+    private final UUID taskId = UUID.randomUUID();
+
+    // On a whole second, so reminders fall exactly on a tick
+    private final Date dueDate = new Date((System.currentTimeMillis() / 1000 + 7200) * 1000);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        scheduler = new ReminderScheduler(taskRepository, changeRepository, notifier, transactionManager, new SimpleMeterRegistry(),
+                Duration.ofSeconds(1), LEAD);
+    }
+
+    @Test
+    void whenOpenTaskCreated_thenReminderIsSentLeadTimeBeforeDue() {
+        // Arrange
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, dueDate)));
+
+        // Act
+        scheduler.sendDue(remindAt() - 1000);
+        scheduler.sendDue(remindAt());
+
+        // Assert
+        ArgumentCaptor<TaskReminder> reminder = ArgumentCaptor.forClass(TaskReminder.class);
+        verify(notifier, times(1)).remind(reminder.capture());
+        assertEquals(taskId, reminder.getValue().getTaskId());
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    void whenTaskCompletedOrDeleted_thenReminderIsCancelled() {
+        TaskSnapshot open = snapshot(Status.TODO, dueDate);
+        scheduler.onTaskChanged(TaskChangedEvent.created(open));
+        scheduler.onTaskChanged(TaskChangedEvent.updated(open, snapshot(Status.COMPLETED, dueDate)));
+        UUID deletedId = UUID.randomUUID();
+        TaskSnapshot deleted = new TaskSnapshot(deletedId, "Other", "Description", Status.TODO, Priority.LOW,
+                dueDate, null, null, null, null);
+        scheduler.onTaskChanged(TaskChangedEvent.created(deleted));
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(deleted));
+
+        scheduler.sendDue(dueDate.getTime());
+
+        verify(notifier, never()).remind(any());
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    void whenDueDateMoved_thenReminderFollowsIt() {
+        TaskSnapshot original = snapshot(Status.TODO, dueDate);
+        Date later = new Date(dueDate.getTime() + Duration.ofDays(1).toMillis());
+        scheduler.onTaskChanged(TaskChangedEvent.created(original));
+        scheduler.onTaskChanged(TaskChangedEvent.updated(original, snapshot(Status.IN_PROGRESS, later)));
+
+        scheduler.sendDue(remindAt());
+        verify(notifier, never()).remind(any());
+        scheduler.sendDue(later.getTime() - LEAD.toMillis());
+        verify(notifier).remind(any());
+    }
+
+    @Test
+    void whenTaskEditedAfterReminderSent_thenItIsNotSentAgain() {
+        TaskSnapshot open = snapshot(Status.TODO, dueDate);
+        scheduler.onTaskChanged(TaskChangedEvent.created(open));
+        scheduler.sendDue(remindAt());
+
+        scheduler.onTaskChanged(TaskChangedEvent.updated(open, snapshot(Status.IN_PROGRESS, dueDate)));
+        scheduler.sendDue(dueDate.getTime());
+
+        verify(notifier, times(1)).remind(any());
+    }
+
+    @Test
+    void whenRebuilt_thenOpenTasksFromDatabaseAreScheduled() {
+        // Arrange
+        when(taskRepository.streamReminders(eq(ReminderScheduler.OPEN_STATUSES), any(Date.class)))
+                .thenReturn(Stream.of(new TaskReminder(taskId, "Task", null, dueDate)));
+
+        // Act
+        scheduler.rebuild();
+        scheduler.sendDue(remindAt());
+
+        // Assert
+        verify(notifier).remind(any());
+    }
+
+    @Test
+    void whenTaskCreatedOnAnotherInstance_thenReminderIsScheduledFromTheChangeLog() {
+        // Arrange: the change never raised an event here, it only reached the shared log
+        when(changeRepository.findAfter(eq(0L), any(Limit.class))).thenReturn(List.of(change(1L)));
+        when(taskRepository.findReminders(Set.of(taskId), ReminderScheduler.OPEN_STATUSES))
+                .thenReturn(List.of(new TaskReminder(taskId, "Task", null, dueDate)));
+
+        // Act
+        scheduler.followChanges();
+        scheduler.sendDue(remindAt());
+
+        // Assert
+        verify(notifier).remind(any());
+    }
+
+    @Test
+    void whenTaskCompletedOnAnotherInstance_thenReminderIsCancelledAndCursorMoves() {
+        // Arrange: the completed task is no longer returned as an open reminder
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, dueDate)));
+        when(changeRepository.findAfter(eq(0L), any(Limit.class))).thenReturn(List.of(change(7L)));
+
+        // Act
+        scheduler.followChanges();
+        scheduler.followChanges();
+        scheduler.sendDue(dueDate.getTime());
+
+        // Assert
+        verify(notifier, never()).remind(any());
+        verify(changeRepository).findAfter(eq(7L), any(Limit.class));
+    }
+
+    @Test
+    void whenLoggedChangeArrivesAfterReminderSent_thenItIsNotSentAgain() {
+        // Arrange
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, dueDate)));
+        scheduler.sendDue(remindAt());
+        when(changeRepository.findAfter(eq(0L), any(Limit.class))).thenReturn(List.of(change(1L)));
+        when(taskRepository.findReminders(Set.of(taskId), ReminderScheduler.OPEN_STATUSES))
+                .thenReturn(List.of(new TaskReminder(taskId, "Task", null, dueDate)));
+
+        // Act
+        scheduler.followChanges();
+        scheduler.sendDue(dueDate.getTime() - 1000);
+
+        // Assert
+        verify(notifier, times(1)).remind(any());
+    }
+
+    @Test
+    void whenNotifierFails_thenOtherRemindersAreStillSent() {
+        UUID otherId = UUID.randomUUID();
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, dueDate)));
+        scheduler.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(otherId, "Other", "Description",
+                Status.TODO, Priority.LOW, dueDate, null, null, null, null)));
+        doThrow(new IllegalStateException("mail down")).when(notifier)
+                .remind(argThat(reminder -> reminder.getTaskId().equals(taskId)));
+
+        scheduler.sendDue(remindAt());
+
+        verify(notifier, times(2)).remind(any());
+    }
+
+    private long remindAt() {
+        return dueDate.getTime() - LEAD.toMillis();
+    }
+
+    private TaskChange change(long seq) {
+        return new TaskChange(seq, seq, taskId, false, LocalDateTime.now());
+    }
+
+    private TaskSnapshot snapshot(Status status, Date due) {
+        return new TaskSnapshot(taskId, "Task", "Description", status, Priority.LOW, due, null, null,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskmanagement.userservice.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    void whenAdvanced_thenValuesExpireAtTheirDeadline() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(2, 3, 3);
+        wheel.schedule("b", 9);
+        wheel.schedule("a", 5);
+        wheel.schedule("c", 19);
+        List<String> expired = new ArrayList<>();
+
+        // Act & Assert
+        wheel.advanceTo(8, expired::add);
+        assertEquals(List.of("a"), expired);
+        wheel.advanceTo(9, expired::add);
+        assertEquals(List.of("a", "b"), expired);
+        wheel.advanceTo(18, expired::add);
+        assertEquals(List.of("a", "b"), expired);
+        wheel.advanceTo(19, expired::add);
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void whenCancelled_thenValueNeverExpires() {
+        TimingWheel<String> wheel = new TimingWheel<>(2, 3, 0);
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 40);
+        wheel.schedule("b", 40);
+
+        assertTrue(wheel.cancel(timeout));
+        assertFalse(wheel.cancel(timeout));
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(100, expired::add);
+
+        assertEquals(List.of("b"), expired);
+        assertFalse(timeout.isPending());
+    }
+
+    @Test
+    void whenDeadlinePassedOrBeyondRange_thenExpiresAtTheRightTick() {
+        // Three levels of four slots cover 64 ticks
+        TimingWheel<Long> wheel = new TimingWheel<>(2, 3, 10);
+        wheel.schedule(5L, 5);
+        wheel.schedule(500L, 500);
+        List<Long> expired = new ArrayList<>();
+
+        wheel.advanceTo(10, expired::add);
+        assertEquals(List.of(5L), expired);
+        wheel.advanceTo(499, expired::add);
+        assertEquals(List.of(5L), expired);
+        wheel.advanceTo(500, expired::add);
+        assertEquals(List.of(5L, 500L), expired);
+    }
+
+    @Test
+    void whenRandomDeadlines_thenEachExpiresExactlyOnItsTick() {
+        // Arrange
+        Random random = new Random(42);
+        TimingWheel<Long> wheel = new TimingWheel<>(3, 3, 7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long deadline = 7 + random.nextInt(2000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // Act
+        List<Long> mismatched = new ArrayList<>();
+        int[] expiredCount = {0};
+        for (long tick = 7; tick < 2007; tick++) {
+            long now = tick;
+            wheel.advanceTo(tick, deadline -> {
+                expiredCount[0]++;
+                if (deadline != now) {
+                    mismatched.add(deadline);
+                }
+            });
+        }
+
+        // Assert
+        assertEquals(deadlines.size(), expiredCount[0]);
+        assertTrue(mismatched.isEmpty(), "Expired on the wrong tick: " + mismatched);
+    }
+
+    @Test
+    void whenMillionTimeoutsScheduledAndHalfCancelled_thenTheRestExpire() {
+        // Arrange
+        TimingWheel<Integer> wheel = new TimingWheel<>(8, 4, 0);
+        List<TimingWheel.Timeout<Integer>> timeouts = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            timeouts.add(wheel.schedule(i, i % 100_000));
+        }
+
+        // Act
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            wheel.cancel(timeouts.get(i));
+        }
+        int[] expired = {0};
+        wheel.advanceTo(100_000, value -> expired[0]++);
+
+        // Assert
+        assertEquals(500_000, expired[0]);
+        assertEquals(0, wheel.size());
+    }
+}
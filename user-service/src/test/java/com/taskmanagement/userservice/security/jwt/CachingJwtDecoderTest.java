@@ -0,0 +1,98 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingJwtDecoderTest {
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, 100, meterRegistry, nanos::get);
+    }
+
+    @Test
+    void whenSameTokenDecodedTwice_thenItIsVerifiedOnce() {
+        // Arrange
+        Jwt jwt = jwt("token", Instant.now().plusSeconds(3600));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        // Act
+        Jwt first = decoder.decode("token");
+        Jwt second = decoder.decode("token");
+
+        // Assert
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(delegate, times(1)).decode("token");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CachingJwtDecoder.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void whenTokenIsRejected_thenItIsNotRemembered() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+
+        verify(delegate, times(2)).decode("bad");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void whenTokenExpires_thenItIsVerifiedAgain() {
+        when(delegate.decode("token")).thenReturn(jwt("token", Instant.now().plusSeconds(60)));
+        decoder.decode("token");
+
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void whenTokenHasNoExpiry_thenItIsNotCached() {
+        when(delegate.decode("token")).thenReturn(jwt("token", null));
+
+        assertNotNull(decoder.decode("token"));
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("testuser")
+                .issuedAt(Instant.now().minusSeconds(1));
+        if (expiresAt != null) {
+            builder.expiresAt(expiresAt);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+/**
+ * Per-request cost of turning a verified token into an authentication, before and after
+ * {@link RoleAuthoritiesConverter}. The legacy converter is the one SecurityConfig used
+ * to build, minus its two INFO log lines per request, and the new one runs with sampled
+ * logging off, so only the mapping is compared.
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec
+ * -Dbenchmark=com.taskmanagement.userservice.security.jwt.JwtAuthenticationBenchmark};
+ * the gc profiler reports allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    // As issued by AuthService: the user's authorities, space-separated
+    @Param({"ROLE_USER", "ROLE_USER ROLE_ADMIN"})
+    private String roles;
+
+    private Jwt jwt;
+
+    private JwtAuthenticationConverter legacy;
+
+    private JwtAuthenticationConverter precomputed;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .claim("roles", roles)
+                .build();
+
+        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        grantedAuthoritiesConverter.setAuthoritiesClaimName("roles");
+        grantedAuthoritiesConverter.setAuthorityPrefix("");
+        legacy = new JwtAuthenticationConverter();
+        legacy.setJwtGrantedAuthoritiesConverter(token -> {
+            Collection<GrantedAuthority> authorities = grantedAuthoritiesConverter.convert(token);
+            return authorities.stream()
+                    .map(authority -> new SimpleGrantedAuthority(
+                    authority.getAuthority().startsWith("ROLE_")
+                    ? authority.getAuthority()
+                    : "ROLE_" + authority.getAuthority()))
+                    .collect(Collectors.toList());
+        });
+        legacy.setPrincipalClaimName("sub");
+
+        precomputed = new JwtAuthenticationConverter();
+        precomputed.setJwtGrantedAuthoritiesConverter(new RoleAuthoritiesConverter(0));
+        precomputed.setPrincipalClaimName("sub");
+    }
+
+    @Benchmark
+    public Object legacy() {
+        return legacy.convert(jwt);
+    }
+
+    @Benchmark
+    public Object precomputed() {
+        return precomputed.convert(jwt);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
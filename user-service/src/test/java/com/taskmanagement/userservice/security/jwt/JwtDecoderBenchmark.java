@@ -0,0 +1,104 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Raw versus cached token verification, as seen by the resource server on every
+ * request. Each benchmark thread picks tokens at random from a pool of active users.
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec}; not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    @Param({"1000"})
+    private int activeTokens;
+
+    private String[] tokens;
+
+    private JwtDecoder rawDecoder;
+
+    private JwtDecoder cachingDecoder;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAKey jwk = new RSAKey.Builder(publicKey).privateKey((RSAPrivateKey) keyPair.getPrivate()).build();
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+
+        tokens = new String[activeTokens];
+        Instant now = Instant.now();
+        for (int i = 0; i < activeTokens; i++) {
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .subject("user" + i)
+                    .issuedAt(now)
+                    .expiresAt(now.plusSeconds(3600))
+                    .claim("roles", List.of("USER"))
+                    .build();
+            tokens[i] = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        }
+        rawDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        cachingDecoder = new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(publicKey).build(), 10_000,
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Object raw() {
+        return rawDecoder.decode(tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cachingDecoder.decode(tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 8, 64}) {
+            new Runner(new OptionsBuilder()
+                    .include(JwtDecoderBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.nimbusds.jose.jwk.JWK;
+
+class JwtKeyRingTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+    void whenTokenIsSigned_thenItCarriesTheSigningKeyAndVerifies(String algorithm) throws Exception {
+        // Arrange
+        JwtKeyRing keyRing = new JwtKeyRing(List.of(rsa(), es256(), ed25519()), algorithm);
+
+        // Act
+        String token = sign(keyRing, "testuser");
+        Jwt jwt = keyRing.newDecoder().decode(token);
+
+        // Assert
+        assertEquals(algorithm, jwt.getHeaders().get("alg").toString());
+        assertEquals(keyRing.getSigningKey().getKeyID(), jwt.getHeaders().get("kid"));
+        assertEquals(algorithm, keyRing.getSigningKey().getAlgorithm().getName());
+        assertEquals("testuser", jwt.getSubject());
+    }
+
+    @Test
+    void whenKeyIsRotated_thenTokensFromThePreviousKeyStillVerify() throws Exception {
+        JwtKeyRing before = new JwtKeyRing(List.of(rsa()), "RS256");
+        JwtKeyRing after = new JwtKeyRing(List.of(es256(), rsa()), "ES256");
+
+        String oldToken = sign(before, "olduser");
+        String newToken = sign(after, "newuser");
+
+        assertEquals("olduser", after.newDecoder().decode(oldToken).getSubject());
+        assertEquals("newuser", after.newDecoder().decode(newToken).getSubject());
+        assertThrows(JwtException.class, () -> before.newDecoder().decode(newToken));
+    }
+
+    @Test
+    void whenKeysShareAnAlgorithm_thenTheFirstSignsAndTheKidSelectsTheVerifier() throws Exception {
+        JWK previous = JwtKeyRing.toJwk(KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+        JwtKeyRing staged = new JwtKeyRing(List.of(previous, ed25519()), "EdDSA");
+        JwtKeyRing promoted = new JwtKeyRing(List.of(ed25519(), previous), "EdDSA");
+
+        String token = sign(staged, "testuser");
+
+        assertEquals(previous.getKeyID(), staged.getSigningKey().getKeyID());
+        assertEquals(previous.getKeyID(), promoted.newDecoder().decode(token).getHeaders().get("kid"));
+    }
+
+    @Test
+    void whenNoKeyMatchesTheAlgorithm_thenTheRingIsRejected() throws Exception {
+        List<JWK> keys = List.of(rsa());
+
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(keys, "ES256"));
+    }
+
+    @Test
+    void whenPemLacksThePublicKey_thenItIsRejected() {
+        String pem = TestKeys.privateKeyPem(TestKeys.ED25519);
+
+        assertThrows(GeneralSecurityException.class, () -> JwtKeyRing.fromPem(pem));
+    }
+
+    @Test
+    void whenJwkSetIsPublished_thenPrivateHalvesAreLeftOut() throws Exception {
+        JwtKeyRing keyRing = new JwtKeyRing(List.of(rsa(), es256(), ed25519()), "ES256");
+
+        List<JWK> published = keyRing.getPublicJwkSet().getKeys();
+
+        assertEquals(3, published.size());
+        assertTrue(published.stream().noneMatch(JWK::isPrivate));
+        assertFalse(published.stream().anyMatch(key -> key.getKeyID() == null));
+    }
+
+    private static String sign(JwtKeyRing keyRing, String subject) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .build();
+        return keyRing.newEncoder().encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    private static JWK rsa() throws GeneralSecurityException {
+        return JwtKeyRing.fromPem(TestKeys.pem(TestKeys.RSA));
+    }
+
+    private static JWK es256() throws GeneralSecurityException {
+        return JwtKeyRing.fromPem(TestKeys.pem(TestKeys.ES256));
+    }
+
+    private static JWK ed25519() throws GeneralSecurityException {
+        return JwtKeyRing.fromPem(TestKeys.pem(TestKeys.ED25519));
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+/**
+ * Sign and verify throughput per signing algorithm, through the encoder and decoder the
+ * key ring hands to login and to the resource server (without the verified-token cache).
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec
+ * -Dbenchmark=com.taskmanagement.userservice.security.jwt.JwtSigningBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwtEncoderParameters parameters;
+
+    private JwtEncoder encoder;
+
+    private JwtDecoder decoder;
+
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator;
+        switch (algorithm) {
+            case "RS256" -> {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            }
+            case "ES256" -> {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            default -> generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        JwtKeyRing keyRing = new JwtKeyRing(List.of(JwtKeyRing.toJwk(generator.generateKeyPair())), algorithm);
+        encoder = keyRing.newEncoder();
+        decoder = keyRing.newDecoder();
+
+        // As issued by AuthService
+        Instant now = Instant.now();
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("self")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .subject("user")
+                .claim("roles", "ROLE_USER")
+                .build());
+        token = encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Object sign() {
+        return encoder.encode(parameters);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return decoder.decode(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 8}) {
+            new Runner(new OptionsBuilder()
+                    .include(JwtSigningBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+}
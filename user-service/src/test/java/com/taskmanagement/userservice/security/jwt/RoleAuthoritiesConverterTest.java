@@ -0,0 +1,79 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class RoleAuthoritiesConverterTest {
+
+    private final RoleAuthoritiesConverter converter = new RoleAuthoritiesConverter(1);
+
+    @Test
+    void whenRolesAreSpaceSeparated_thenPrefixedAuthoritiesAreReturned() {
+        // Arrange
+        Jwt jwt = jwt("ROLE_USER ROLE_ADMIN");
+
+        // Act
+        Collection<GrantedAuthority> authorities = converter.convert(jwt);
+
+        // Assert
+        assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), names(authorities));
+    }
+
+    @Test
+    void whenSameRolesArriveInAnyForm_thenOneSharedImmutableListIsReturned() {
+        Collection<GrantedAuthority> first = converter.convert(jwt("ROLE_USER ROLE_PROJECT_MANAGER"));
+        Collection<GrantedAuthority> second = converter.convert(jwt("PROJECT_MANAGER  USER"));
+        Collection<GrantedAuthority> third = converter.convert(jwt(List.of("USER", "ROLE_PROJECT_MANAGER")));
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertThrows(UnsupportedOperationException.class, () -> first.clear());
+    }
+
+    @Test
+    void whenRoleIsNotKnown_thenItIsStillGranted() {
+        Collection<GrantedAuthority> fromString = converter.convert(jwt("ROLE_USER AUDITOR"));
+        Collection<GrantedAuthority> fromList = converter.convert(jwt(List.of("USER", "ROLE_AUDITOR")));
+
+        assertEquals(List.of("ROLE_USER", "ROLE_AUDITOR"), names(fromString));
+        assertEquals(List.of("ROLE_USER", "ROLE_AUDITOR"), names(fromList));
+    }
+
+    @Test
+    void whenRoleOnlyPrefixesAKnownName_thenItIsNotMistakenForIt() {
+        Collection<GrantedAuthority> authorities = converter.convert(jwt("ROLE_USERS"));
+
+        assertEquals(List.of("ROLE_USERS"), names(authorities));
+    }
+
+    @Test
+    void whenRolesClaimIsMissing_thenNoAuthoritiesAreReturned() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("user")
+                .issuedAt(Instant.now()).build();
+
+        assertTrue(converter.convert(jwt).isEmpty());
+    }
+
+    private static Jwt jwt(Object roles) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(Instant.now())
+                .claim("roles", roles)
+                .build();
+    }
+
+    private static List<String> names(Collection<GrantedAuthority> authorities) {
+        return authorities.stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
+    }
+}
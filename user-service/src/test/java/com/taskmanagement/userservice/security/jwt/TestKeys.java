@@ -0,0 +1,54 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.RSAKeyGenParameterSpec;
+import java.util.Base64;
+
+/**
+ * Signing key pairs generated once per test run, so no private key is ever committed.
+ * They are handed out as PEM, the format the application reads its keys in.
+ */
+public final class TestKeys {
+
+    public static final KeyPair RSA = generate("RSA", new RSAKeyGenParameterSpec(2048, RSAKeyGenParameterSpec.F4));
+    public static final KeyPair ES256 = generate("EC", new ECGenParameterSpec("secp256r1"));
+    public static final KeyPair ED25519 = generate("Ed25519", null);
+
+    private TestKeys() {
+    }
+
+    public static String privateKeyPem(KeyPair keyPair) {
+        return pem("PRIVATE KEY", keyPair.getPrivate().getEncoded());
+    }
+
+    public static String publicKeyPem(KeyPair keyPair) {
+        return pem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+    }
+
+    // Both halves in one file, as listed in app.security.jwt.keys
+    public static String pem(KeyPair keyPair) {
+        return privateKeyPem(keyPair) + publicKeyPem(keyPair);
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private static KeyPair generate(String algorithm, AlgorithmParameterSpec spec) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+            if (spec != null) {
+                generator.initialize(spec);
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate a " + algorithm + " test key", e);
+        }
+    }
+}
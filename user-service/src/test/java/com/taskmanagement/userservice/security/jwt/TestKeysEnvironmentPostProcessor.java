@@ -0,0 +1,42 @@
+package com.taskmanagement.userservice.security.jwt;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Points every application context started by the tests at the generated RSA pair in
+ * {@link TestKeys} instead of a key file on the classpath. Registered in
+ * {@code META-INF/spring.factories} under the test resources, so it never ships.
+ */
+public class TestKeysEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    // Written once per test run and shared by all contexts
+    private static final Map<String, Object> PROPERTIES = Map.of(
+            "jwt.private.key", write("private", TestKeys.privateKeyPem(TestKeys.RSA)),
+            "jwt.public.key", write("public", TestKeys.publicKeyPem(TestKeys.RSA)));
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        environment.getPropertySources().addFirst(new MapPropertySource("testJwtKeys", PROPERTIES));
+    }
+
+    private static String write(String name, String pem) {
+        try {
+            Path file = Files.createTempFile("jwt-" + name + "-", ".pem");
+            file.toFile().deleteOnExit();
+            Files.writeString(file, pem, StandardCharsets.US_ASCII);
+            return file.toUri().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskmanagement.userservice.security.password;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(3);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void whenNotSaturated_thenHashesAreDelegatedAndTimed() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), RETRY_AFTER,
+                meterRegistry);
+
+        // Act
+        String hash = encoder.encode("password");
+
+        // Assert
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+        assertEquals(3, meterRegistry.get("auth.password.wait").timer().count());
+    }
+
+    @Test
+    void whenQueueIsFull_thenHashIsRefusedImmediately() throws Exception {
+        PasswordEncoder delegate = blockingDelegate();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(30), RETRY_AFTER, meterRegistry);
+
+        // One hash running, one queued
+        CompletableFuture.runAsync(() -> encoder.encode("first"));
+        CompletableFuture.runAsync(() -> encoder.encode("second"));
+        awaitQueueDepth(1);
+
+        PasswordHashingSaturatedException e = assertThrows(PasswordHashingSaturatedException.class,
+                () -> encoder.matches("third", "hash"));
+
+        assertEquals(RETRY_AFTER, e.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.password.active").gauge().value());
+    }
+
+    @Test
+    void whenHashWaitsTooLong_thenItIsRefusedAndNeverRuns() throws Exception {
+        PasswordEncoder delegate = blockingDelegate();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 4, Duration.ofMillis(100), RETRY_AFTER, meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("first"));
+        awaitActive();
+
+        assertThrows(PasswordHashingSaturatedException.class, () -> encoder.matches("second", "hash"));
+
+        release.countDown();
+        TimeUnit.MILLISECONDS.sleep(100);
+        verify(delegate, never()).matches(any(), any());
+    }
+
+    @Test
+    void whenHashIsSlowButStartedAtOnce_thenItCompletesPastTheMaxWait() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), RETRY_AFTER, meterRegistry);
+
+        assertEquals("hash", encoder.encode("password"));
+        assertEquals(0.0, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+
+    @Test
+    void whenDelegateFails_thenItsExceptionReachesTheCaller() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("Encoded password does not look like BCrypt"));
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), RETRY_AFTER, meterRegistry);
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.matches("password", "plain"));
+    }
+
+    private PasswordEncoder blockingDelegate() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        return delegate;
+    }
+
+    private void awaitActive() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.active").gauge().value() < 1 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.queue").gauge().value() < depth && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.userservice.task.controller;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate prepares, for tests that assert on its shape rather than
+ * just on the number of statements.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+}
@@ -3,14 +3,26 @@ package com.taskmanagement.userservice.task.controller;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -20,25 +32,51 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskmanagement.userservice.security.SecurityConfigTest;
 import com.taskmanagement.userservice.security.WithMockJwt;
+import com.taskmanagement.userservice.task.dto.BulkTaskMutationRequest;
+import com.taskmanagement.userservice.task.dto.BulkTaskResult;
+import com.taskmanagement.userservice.task.dto.TaskAuditResponse;
+import com.taskmanagement.userservice.task.dto.TaskChangesResponse;
+import com.taskmanagement.userservice.task.dto.TaskCursor;
+import com.taskmanagement.userservice.task.dto.TaskHistoryResponse;
+import com.taskmanagement.userservice.task.dto.TaskStatsResponse;
+import com.taskmanagement.userservice.task.dto.TaskPatch;
 import com.taskmanagement.userservice.task.dto.TaskRequest;
+import com.taskmanagement.userservice.task.dto.TaskResponse;
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.exception.TaskArchivedException;
+import com.taskmanagement.userservice.task.exception.TaskChangesExpiredException;
 import com.taskmanagement.userservice.task.exception.TaskNotFoundException;
+import com.taskmanagement.userservice.task.exception.TaskVersionMismatchException;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
 import com.taskmanagement.userservice.task.model.Priority;
 import com.taskmanagement.userservice.task.model.Status;
 import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.model.TaskAudit;
 import com.taskmanagement.userservice.task.service.ITaskService;
+import com.taskmanagement.userservice.task.service.ITaskAuditService;
+import com.taskmanagement.userservice.task.service.ITaskChangeService;
+import com.taskmanagement.userservice.task.service.ITaskStatsService;
+import com.taskmanagement.userservice.task.service.ITaskStreamService;
 import com.taskmanagement.userservice.user.model.Role;
 import com.taskmanagement.userservice.user.model.User;
 import com.taskmanagement.userservice.user.service.IUserService;
@@ -53,6 +91,18 @@ public class TaskControllerIntegrationTest {
     @MockBean(name = "taskService")
     private ITaskService taskService;
 
+    @MockBean
+    private ITaskStatsService taskStatsService;
+
+    @MockBean
+    private ITaskChangeService taskChangeService;
+
+    @MockBean
+    private ITaskStreamService taskStreamService;
+
+    @MockBean
+    private ITaskAuditService taskAuditService;
+
     @MockBean
     private IUserService userService;
 
@@ -84,6 +134,106 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.createdBy").isEmpty());
     }
 
+    // Bulk create
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenCreateTasksInBulk_thenReturnsResultPerItem() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID createdId = UUID.randomUUID();
+        Date futureDate = Date.from(LocalDateTime.now().plusDays(1).atZone(ZoneId.systemDefault()).toInstant());
+        List<TaskRequest> taskRequests = List.of(
+                new TaskRequest("Task 1", "Description 1", Status.TODO, Priority.LOW, futureDate, userId),
+                new TaskRequest("T", "Description 2", Status.TODO, null, futureDate, userId));
+        when(taskService.createTasks(argThat(tasks -> tasks.size() == 1)))
+                .thenReturn(List.of(BulkTaskResult.created(createdId)));
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(createdId.toString()))
+                .andExpect(jsonPath("$.results[1].outcome").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors.length()").value(2));
+
+        // Assignees are resolved by the service in one query, not per item
+        verify(userService, never()).getUserById(any(UUID.class));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenCreateTasksInBulkWithEmptyList_thenReturns400() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).createTasks(any());
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenCreateTasksInBulkAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    // Bulk status, reassignment and delete
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenChangeStatusByIds_thenReturnsAffectedCount() throws Exception {
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(taskService.changeStatus(argThat(criteria -> ids.equals(criteria.getIds())), eq(Status.COMPLETED),
+                anyInt())).thenReturn(2);
+
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkTaskMutationRequest(ids, null, Status.COMPLETED, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenBulkMutationWithoutSelection_thenReturns400() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new BulkTaskMutationRequest(null, new TaskSearchCriteria(), null, null))))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).deleteTasks(any(), anyInt());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenBulkMutationWithIdsAndFilter_thenReturns400() throws Exception {
+        TaskSearchCriteria filter = new TaskSearchCriteria();
+        filter.setStatus(Set.of(Status.TODO));
+
+        mockMvc.perform(post("/api/tasks/bulk/assignee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new BulkTaskMutationRequest(Set.of(UUID.randomUUID()), filter, null, UUID.randomUUID()))))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).reassignTasks(any(), any(), anyInt());
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenBulkDeleteAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new BulkTaskMutationRequest(Set.of(UUID.randomUUID()), null, null, null))))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithMockJwt(roles = "ADMIN")
     void whenCreateTaskWithInvalidData_thenReturns400() throws Exception {
@@ -130,6 +280,52 @@ public class TaskControllerIntegrationTest {
         verify(taskService, never()).createTask(any());
     }
 
+    // Patch task
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPatchTask_thenOnlySentFieldsArePassedOn() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        Task patchedTask = new Task(taskId, "Task 1", "Description 1", Status.COMPLETED, Priority.LOW, null, null, null);
+        when(taskService.patchTask(eq(taskId), any(TaskPatch.class), isNull())).thenReturn(patchedTask);
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"COMPLETED\", \"dueDate\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        verify(taskService).patchTask(eq(taskId), argThat(patch -> patch.has(TaskPatch.Field.STATUS)
+                && patch.has(TaskPatch.Field.DUE_DATE)
+                && !patch.has(TaskPatch.Field.TITLE)
+                && !patch.has(TaskPatch.Field.ASSIGNED_USER_ID)), isNull());
+        verify(userService, never()).getUserById(any(UUID.class));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPatchRemovesRequiredField_thenReturns400() throws Exception {
+        UUID taskId = UUID.randomUUID();
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"title\": null}"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).patchTask(any(), any(), any());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPatchMissingTask_thenReturns404() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(taskService.patchTask(eq(taskId), any(TaskPatch.class), isNull())).thenReturn(null);
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"priority\": \"HIGH\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     // Update task
     @Test
     @WithMockJwt(roles = "ADMIN")
@@ -142,7 +338,7 @@ public class TaskControllerIntegrationTest {
         mockUser.setId(userId);
         when(userService.getUserById(userId)).thenReturn(Optional.of(mockUser));
         Task updatedTask = new Task(taskId, "Task 1", "Description 1", Status.TODO, Priority.LOW, futureDate, mockUser, null);
-        when(taskService.updateTask(eq(taskId), any(Task.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(taskId), any(Task.class), isNull())).thenReturn(updatedTask);
         mockMvc.perform(put("/api/tasks/{id}", taskId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(taskRequest)))
@@ -156,7 +352,7 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.assignedUser").exists())
                 .andExpect(jsonPath("$.createdBy").isEmpty());
         verify(userService).getUserById(userId);
-        verify(taskService).updateTask(eq(taskId), any(Task.class));
+        verify(taskService).updateTask(eq(taskId), any(Task.class), isNull());
     }
 
     @Test
@@ -180,7 +376,7 @@ public class TaskControllerIntegrationTest {
                 Status.IN_PROGRESS, Priority.HIGH, upcomingDate, assignedUser, null);
 
         when(userService.getUserById(userId)).thenReturn(Optional.of(assignedUser));
-        when(taskService.updateTask(eq(taskId), any(Task.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(taskId), any(Task.class), isNull())).thenReturn(updatedTask);
 
         // Act & Assert
         mockMvc.perform(put("/api/tasks/{id}", taskId)
@@ -195,7 +391,7 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.dueDate").exists())
                 .andExpect(jsonPath("$.assignedUser.username").value("regularuser"));
 
-        verify(taskService).updateTask(eq(taskId), any(Task.class));
+        verify(taskService).updateTask(eq(taskId), any(Task.class), isNull());
     }
 
     @Test
@@ -220,7 +416,7 @@ public class TaskControllerIntegrationTest {
                 Status.IN_PROGRESS, Priority.MEDIUM, upcomingDate, assignedUser, null);
 
         when(userService.getUserById(userId)).thenReturn(Optional.of(assignedUser));
-        when(taskService.updateTask(eq(taskId), any(Task.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(taskId), any(Task.class), isNull())).thenReturn(updatedTask);
         when(taskService.isTaskAssignedToUser(username, taskId)).thenReturn(true);
 
         // Act & Assert
@@ -236,7 +432,7 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.dueDate").exists())
                 .andExpect(jsonPath("$.assignedUser").exists());
 
-        verify(taskService).updateTask(eq(taskId), any(Task.class));
+        verify(taskService).updateTask(eq(taskId), any(Task.class), isNull());
         verify(taskService).isTaskAssignedToUser(username, taskId);
     }
 
@@ -266,10 +462,60 @@ public class TaskControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(taskRequest)))
                 .andExpect(status().isForbidden());
 
-        verify(taskService, never()).updateTask(eq(taskId), any(Task.class));
+        verify(taskService, never()).updateTask(eq(taskId), any(Task.class), isNull());
         verify(taskService).isTaskAssignedToUser(actingUsername, taskId);
     }
 
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenUpdateTaskWithStaleIfMatch_thenReturns412() throws Exception {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Date futureDate = Date.from(LocalDateTime.now().plusDays(1).atZone(ZoneId.systemDefault()).toInstant());
+        TaskRequest taskRequest = new TaskRequest("Task 1", "Description 1", Status.TODO, Priority.LOW, futureDate, userId);
+        User mockUser = new User();
+        mockUser.setId(userId);
+        when(userService.getUserById(userId)).thenReturn(Optional.of(mockUser));
+        when(taskService.updateTask(eq(taskId), any(Task.class), eq(3L)))
+                .thenThrow(new TaskVersionMismatchException("Task has been modified, current version is 4"));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "\"3-abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Task has been modified, current version is 4"));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenDeleteArchivedTask_thenReturns409() throws Exception {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        doThrow(new TaskArchivedException("Task is archived and can no longer be changed"))
+                .when(taskService).deleteTask(taskId);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Task is archived and can no longer be changed"));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPatchTaskWithWeakIfMatch_thenReturns412() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/{id}", UUID.randomUUID())
+                .header(HttpHeaders.IF_MATCH, "W/\"3-abc\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).patchTask(any(), any(), any());
+    }
+
     @Test
     void whenUnauthenticatedUserUpdatesTask_thenReturns401() throws Exception {
         // Arrange
@@ -285,7 +531,7 @@ public class TaskControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(taskRequest)))
                 .andExpect(status().isUnauthorized());
 
-        verify(taskService, never()).updateTask(any(UUID.class), any(Task.class));
+        verify(taskService, never()).updateTask(any(UUID.class), any(Task.class), any());
     }
 
     // Delete task
@@ -335,7 +581,7 @@ public class TaskControllerIntegrationTest {
                 new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.LOW, new Date(), null, null),
                 new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.IN_PROGRESS, Priority.HIGH, new Date(), null, null)
         );
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        when(taskService.getAllTasks(false)).thenReturn(tasks);
 
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
@@ -343,7 +589,7 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].title").value("Task 1"))
                 .andExpect(jsonPath("$[1].title").value("Task 2"));
 
-        verify(taskService).getAllTasks();
+        verify(taskService).getAllTasks(false);
     }
 
     @Test
@@ -368,13 +614,38 @@ public class TaskControllerIntegrationTest {
         verify(taskService).isTaskAssignedToUser("assignedUser", taskId);
     }
 
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTaskWithMatchingIfNoneMatch_thenReturns304() throws Exception {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        Task task = new Task(taskId, "Task", "Description", Status.TODO, Priority.LOW, new Date(), null, null);
+        task.setVersion(2L);
+        when(taskService.getTaskById(taskId)).thenReturn(Optional.of(task));
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"2-")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        task.setVersion(3L);
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
     @Test
     @WithMockJwt(roles = "USER")
     void whenGetAllTasksAsUser_thenReturns403() throws Exception {
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isForbidden());
 
-        verify(taskService, never()).getAllTasks();
+        verify(taskService, never()).getAllTasks(anyBoolean());
     }
 
     @Test
@@ -382,7 +653,386 @@ public class TaskControllerIntegrationTest {
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isUnauthorized());
 
-        verify(taskService, never()).getAllTasks();
+        verify(taskService, never()).getAllTasks(anyBoolean());
+    }
+
+    // Change feed
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetChanges_thenReturnsChangedTasksAndTombstones() throws Exception {
+        // Arrange
+        UUID changedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        Task task = new Task(changedId, "Task", "Description", Status.TODO, Priority.LOW, null, null, null);
+        when(taskChangeService.getChangesSince(7L, 50)).thenReturn(new TaskChangesResponse(
+                List.of(new TaskResponse(task)), List.of(deletedId), 9L, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes").param("since", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(changedId.toString()))
+                .andExpect(jsonPath("$.deleted[0]").value(deletedId.toString()))
+                .andExpect(jsonPath("$.cursor").value(9))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetChangesWithPrunedCursor_thenReturns410() throws Exception {
+        when(taskChangeService.getChangesSince(eq(1L), anyInt()))
+                .thenThrow(new TaskChangesExpiredException("Changes since 1 are no longer kept, reload all tasks"));
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "1"))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenGetChangesAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes").param("since", "1"))
+                .andExpect(status().isForbidden());
+
+        verify(taskChangeService, never()).getChangesSince(any(), anyInt());
+    }
+
+    // History
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTaskHistory_thenReturnsPageOfAuditRows() throws Exception {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        TaskAudit audit = new TaskAudit(12L, taskId, TaskChangedEvent.Type.UPDATED, "status", "TODO", "COMPLETED",
+                "admin", LocalDateTime.now());
+        when(taskAuditService.getHistory(taskId, 20L, 1))
+                .thenReturn(new TaskHistoryResponse(List.of(new TaskAuditResponse(audit)), 12L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/{id}/history", taskId).param("cursor", "20").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].field").value("status"))
+                .andExpect(jsonPath("$.items[0].oldValue").value("TODO"))
+                .andExpect(jsonPath("$.items[0].newValue").value("COMPLETED"))
+                .andExpect(jsonPath("$.nextCursor").value(12));
+    }
+
+    @Test
+    @WithMockJwt(username = "regularuser", roles = "USER")
+    void whenUserGetsHistoryOfUnassignedTask_thenReturns403() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(taskService.isTaskAssignedToUser("regularuser", taskId)).thenReturn(false);
+
+        mockMvc.perform(get("/api/tasks/{id}/history", taskId))
+                .andExpect(status().isForbidden());
+
+        verify(taskAuditService, never()).getHistory(any(), any(), anyInt());
+    }
+
+    // Live stream
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenAdminStreamsTasks_thenSubscribesToAllTasks() throws Exception {
+        when(taskStreamService.subscribe(null)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(taskStreamService).subscribe(null);
+    }
+
+    @Test
+    @WithMockJwt(username = "regularuser", roles = "USER")
+    void whenUserStreamsTasks_thenSubscribesToOwnTasks() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(userService.getUserIdByUsername("regularuser")).thenReturn(Optional.of(userId));
+        when(taskStreamService.subscribe(userId)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(taskStreamService).subscribe(userId);
+    }
+
+    @Test
+    void whenUnauthenticatedStreamsTasks_thenReturns401() throws Exception {
+        mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+
+        verify(taskStreamService, never()).subscribe(any());
+    }
+
+    // Keyset pagination
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTasksPageWithMoreRows_thenReturnsNextCursorAndLink() throws Exception {
+        Task task1 = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.LOW, new Date(), null, null);
+        task1.setCreatedAt(LocalDateTime.now().minusMinutes(2));
+        Task task2 = new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.TODO, Priority.LOW, new Date(), null, null);
+        task2.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        Task task3 = new Task(UUID.randomUUID(), "Task 3", "Description 3", Status.TODO, Priority.LOW, new Date(), null, null);
+        task3.setCreatedAt(LocalDateTime.now());
+        when(taskService.getTasksAfter(isNull(), eq(3), eq(false))).thenReturn(List.of(task1, task2, task3));
+
+        String expectedCursor = TaskCursor.from(task2).encode();
+        mockMvc.perform(get("/api/tasks").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Task 1"))
+                .andExpect(jsonPath("$.items[1].title").value("Task 2"))
+                .andExpect(jsonPath("$.nextCursor").value(expectedCursor))
+                .andExpect(jsonPath("$.next").value("http://localhost/api/tasks?cursor=" + expectedCursor + "&size=2"))
+                .andExpect(header().string("Link", "<http://localhost/api/tasks?cursor=" + expectedCursor + "&size=2>; rel=\"next\""));
+
+        verify(taskService, never()).getAllTasks(anyBoolean());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetLastTasksPageWithCursor_thenReturnsNoNextCursor() throws Exception {
+        Task previous = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.LOW, new Date(), null, null);
+        previous.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        TaskCursor cursor = TaskCursor.from(previous);
+        Task task = new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.TODO, Priority.LOW, new Date(), null, null);
+        task.setCreatedAt(LocalDateTime.now());
+        when(taskService.getTasksAfter(any(TaskCursor.class), eq(51), eq(false))).thenReturn(List.of(task));
+
+        mockMvc.perform(get("/api/tasks").param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Task 2"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty())
+                .andExpect(jsonPath("$.next").isEmpty())
+                .andExpect(header().doesNotExist("Link"));
+
+        verify(taskService).getTasksAfter(argThat(c -> c.getId().equals(previous.getId())
+                && c.getCreatedAt().equals(previous.getCreatedAt())), eq(51), eq(false));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTasksPageWithInvalidCursor_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+        verify(taskService, never()).getTasksAfter(any(), any(Integer.class), anyBoolean());
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenGetTasksPageAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("size", "10"))
+                .andExpect(status().isForbidden());
+
+        verify(taskService, never()).getTasksAfter(any(), any(Integer.class), anyBoolean());
+    }
+
+    // Export
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenExportTasksAsAdmin_thenStreamsNdjson() throws Exception {
+        Task task1 = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.LOW, null, null, null);
+        Task task2 = new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.COMPLETED, Priority.HIGH, null, null, null);
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return 2L;
+        }).when(taskService).exportTasks(any());
+
+        String body = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Task 1", objectMapper.readTree(lines[0]).get("title").asText());
+        assertEquals("Task 2", objectMapper.readTree(lines[1]).get("title").asText());
+        assertTrue(body.endsWith("\n"));
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenExportTasksAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(status().isForbidden());
+
+        verify(taskService, never()).exportTasks(any());
     }
 
+    // Search
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchTasks_thenBindsFiltersAndSort() throws Exception {
+        UUID assigneeId = UUID.randomUUID();
+        Task task = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.IN_PROGRESS, Priority.HIGH, new Date(), null, null);
+        when(taskService.searchTasks(any(TaskSearchCriteria.class), any(Sort.class), anyLong(), anyInt()))
+                .thenReturn(List.of(task));
+
+        mockMvc.perform(get("/api/tasks/search")
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("priority", "HIGH")
+                .param("assignedUserId", assigneeId.toString())
+                .param("dueFrom", "2030-01-01T00:00:00.000Z")
+                .param("dueTo", "2030-02-01T00:00:00.000Z")
+                .param("sort", "dueDate,desc")
+                .param("page", "2")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Task 1"))
+                .andExpect(jsonPath("$.next").isEmpty());
+
+        verify(taskService).searchTasks(argThat(criteria -> criteria.getStatus().equals(Set.of(Status.TODO, Status.IN_PROGRESS))
+                && criteria.getPriority().equals(Set.of(Priority.HIGH))
+                && criteria.getAssignedUserId().equals(assigneeId)
+                && criteria.getCreatedByUserId() == null
+                && criteria.getDueFrom() != null
+                && criteria.getDueTo() != null),
+                eq(Sort.by(Sort.Direction.DESC, "dueDate")), eq(20L), eq(11));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchTasksWithMoreMatches_thenReturnsNextPageLink() throws Exception {
+        Task task1 = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.LOW, new Date(), null, null);
+        Task task2 = new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.TODO, Priority.LOW, new Date(), null, null);
+        when(taskService.searchTasks(any(TaskSearchCriteria.class), any(Sort.class), eq(0L), eq(2)))
+                .thenReturn(List.of(task1, task2));
+
+        mockMvc.perform(get("/api/tasks/search?status=TODO&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.next").value("http://localhost/api/tasks/search?status=TODO&page=1&size=1"));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchPageBeyondMaxOffset_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("page", "201").param("size", "50"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message")
+                        .value("Page is too deep, narrow the filter or list tasks with a cursor"));
+
+        verify(taskService, never()).searchTasks(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchTasksSortedByTitle_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("sort", "title"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported sort property: title"));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchTasksWithUnsupportedSort_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("sort", "assignedUser.password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported sort property: assignedUser.password"));
+
+        verify(taskService, never()).searchTasks(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchTasksWithInvertedDueRange_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/tasks/search")
+                .param("dueFrom", "2030-02-01T00:00:00.000Z")
+                .param("dueTo", "2030-01-01T00:00:00.000Z"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("dueFrom must not be after dueTo"));
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenSearchTasksAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("status", "TODO"))
+                .andExpect(status().isForbidden());
+
+        verify(taskService, never()).searchTasks(any(), any(), anyLong(), anyInt());
+    }
+
+    // My tasks
+    @Test
+    @WithMockJwt(username = "testuser", roles = "USER")
+    void whenGetMyTasks_thenQueriesByAuthenticatedUserAndStatus() throws Exception {
+        Task task = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.HIGH, new Date(), null, null);
+        when(taskService.getTasksAssignedTo(eq("testuser"), eq(Set.of(Status.TODO, Status.IN_PROGRESS)), isNull(), eq(11), eq(false)))
+                .thenReturn(List.of(task));
+
+        mockMvc.perform(get("/api/tasks/mine").param("status", "TODO", "IN_PROGRESS").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Task 1"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @WithMockJwt(username = "testuser", roles = "USER")
+    void whenGetMyTasksWithMoreResults_thenReturnsNextCursor() throws Exception {
+        Task task1 = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.HIGH, new Date(), null, null);
+        task1.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        Task task2 = new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.TODO, Priority.HIGH, new Date(), null, null);
+        task2.setCreatedAt(LocalDateTime.of(2024, 1, 1, 11, 0));
+        when(taskService.getTasksAssignedTo(eq("testuser"), isNull(), isNull(), eq(2), eq(false))).thenReturn(List.of(task1, task2));
+
+        String nextCursor = TaskCursor.from(task1).encode();
+        mockMvc.perform(get("/api/tasks/mine?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor))
+                .andExpect(jsonPath("$.next").value("http://localhost/api/tasks/mine?cursor=" + nextCursor + "&size=1"));
+    }
+
+    @Test
+    @WithMockJwt(username = "testuser", roles = "USER")
+    void whenGetMyTasksWithInvalidCursor_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/tasks/mine").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).getTasksAssignedTo(any(), any(), any(), anyInt(), anyBoolean());
+    }
+
+    // Task statistics
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetStats_thenReturnsTotalsByStatusAndPriority() throws Exception {
+        Map<Status, Map<Priority, Long>> counts = new EnumMap<>(Status.class);
+        counts.put(Status.TODO, new EnumMap<>(Map.of(Priority.HIGH, 2L, Priority.LOW, 1L)));
+        counts.put(Status.COMPLETED, new EnumMap<>(Map.of(Priority.HIGH, 4L)));
+        when(taskStatsService.getStats()).thenReturn(new TaskStatsResponse(counts));
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(7))
+                .andExpect(jsonPath("$.byStatus.TODO").value(3))
+                .andExpect(jsonPath("$.byStatus.COMPLETED").value(4))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(0))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(6))
+                .andExpect(jsonPath("$.byStatusAndPriority.TODO.LOW").value(1));
+    }
+
+    @Test
+    @WithMockJwt(roles = "USER")
+    void whenGetStatsAsUser_thenReturns403() throws Exception {
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isForbidden());
+
+        verify(taskStatsService, never()).getStats();
+    }
+
+    @Test
+    @WithMockJwt(username = "testuser", roles = "USER")
+    void whenGetMyStats_thenReturnsStatsOfAuthenticatedUser() throws Exception {
+        Map<Status, Map<Priority, Long>> counts = new EnumMap<>(Status.class);
+        counts.put(Status.IN_PROGRESS, new EnumMap<>(Map.of(Priority.MEDIUM, 5L)));
+        when(taskStatsService.getStatsForUsername("testuser")).thenReturn(new TaskStatsResponse(counts));
+
+        mockMvc.perform(get("/api/tasks/stats/mine"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(5));
+    }
 }
@@ -0,0 +1,539 @@
+package com.taskmanagement.userservice.task.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.userservice.security.WithMockJwt;
+import com.taskmanagement.userservice.task.dto.BulkTaskMutationRequest;
+import com.taskmanagement.userservice.task.dto.TaskRequest;
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.service.ITaskStatsService;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.task.service.TaskArchiver;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+import com.taskmanagement.userservice.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the number of SQL statements behind the task read endpoints, so a page
+ * of tasks keeps costing the same handful of queries however many users it references.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:task-query-count;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.taskmanagement.userservice.task.controller.RecordingStatementInspector",
+    "eureka.client.enabled=false",
+    "app.init-db=false",
+    "app.cache.invalidation.enabled=false",
+    "app.outbox.relay.enabled=false",
+    "app.reminders.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskControllerQueryCountTest {
+
+    private static final int USER_COUNT = 10;
+    private static final int TASK_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ITaskStatsService taskStatsService;
+
+    private Statistics statistics;
+
+    private Task assignedTask;
+
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAll();
+        userRepository.deleteAll();
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(new User("user" + i, "password", "user" + i + "@example.com",
+                    Set.of(Role.USER))));
+        }
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task(null, "Task " + i, "Description " + i, Status.TODO, Priority.LOW, null,
+                    users.get(i % USER_COUNT), users.get((i + 1) % USER_COUNT));
+            Task saved = taskRepository.save(task);
+            if (i == 0) {
+                assignedTask = saved;
+            }
+        }
+
+        // Start every test with a cold second-level cache
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTasksPage_thenQueryCountDoesNotDependOnPageSize() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/tasks").param("size", String.valueOf(TASK_COUNT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(TASK_COUNT))
+                .andExpect(jsonPath("$.items[0].assignedUser.roles[0]").value("USER"));
+
+        // One select for tasks joined to both users, one batched select for their roles
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(smallPageStatements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetAllTasks_thenFixedNumberOfQueries() throws Exception {
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(TASK_COUNT));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTaskByIdAsAdmin_thenFixedNumberOfQueries() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdBy.username").value("user1"));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockJwt(username = "user0", roles = "USER")
+    void whenGetAssignedTaskAsUser_thenFixedNumberOfQueries() throws Exception {
+        double reusedLoads = meterRegistry.counter("tasks.loads.reused").count();
+
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignedUser.username").value("user0"));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        // The handler reuses the task loaded by the @PreAuthorize check
+        assertEquals(reusedLoads + 1, meterRegistry.counter("tasks.loads.reused").count());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenSearchTasks_thenFiltersAndFixedNumberOfQueries() throws Exception {
+        // user0 is assigned tasks 0, 10 and 20
+        mockMvc.perform(get("/api/tasks/search")
+                .param("assignedUserId", users.get(0).getId().toString())
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].title").value("Task 20"))
+                .andExpect(jsonPath("$.items[2].title").value("Task 0"))
+                .andExpect(jsonPath("$.items[0].assignedUser.username").value("user0"))
+                .andExpect(jsonPath("$.next").isEmpty());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(get("/api/tasks/search")
+                .param("createdByUserId", users.get(1).getId().toString())
+                .param("priority", "HIGH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @WithMockJwt(username = "user0", roles = "USER")
+    void whenGetMyTasks_thenOnlyAssignedTasksWithFixedNumberOfQueries() throws Exception {
+        mockMvc.perform(get("/api/tasks/mine").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(TASK_COUNT / USER_COUNT))
+                .andExpect(jsonPath("$.items[0].assignedUser.username").value("user0"))
+                .andExpect(jsonPath("$.items[2].assignedUser.username").value("user0"));
+
+        // Username to id, one keyset select for the tasks, one batched select for roles
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/tasks/mine").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(TASK_COUNT / USER_COUNT));
+
+        // Username and roles now come from the second-level cache
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(get("/api/tasks/mine").param("status", "COMPLETED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenGetTaskByIdTwice_thenSecondReadIsServedFromCache() throws Exception {
+        long loads = meterRegistry.timer("tasks.cache.load").count();
+        double hits = meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit")
+                .functionCounter().count();
+
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignedUser.roles[0]").value("USER"))
+                .andExpect(jsonPath("$.createdBy.username").value("user1"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hits + 1, meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(loads + 1, meterRegistry.timer("tasks.cache.load").count());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenTaskDeleted_thenCachedCopyIsEvicted() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenCreateTasksInBulk_thenInsertsAreBatched() throws Exception {
+        int bulkSize = 1200;
+        List<TaskRequest> taskRequests = new ArrayList<>();
+        for (int i = 0; i < bulkSize; i++) {
+            taskRequests.add(new TaskRequest("Bulk task " + i, "Description " + i, Status.TODO, Priority.MEDIUM, null,
+                    users.get(i % USER_COUNT).getId()));
+        }
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(bulkSize))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        // One select for every assignee, then one insert statement per chunk of 1000, reused for each JDBC batch
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(TASK_COUNT + bulkSize, taskRepository.count());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenChangeStatusByFilter_thenOneSelectAndOneUpdate() throws Exception {
+        taskStatsService.reconcile();
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(jsonPath("$.status").value("TODO"));
+        TaskSearchCriteria filter = new TaskSearchCriteria();
+        filter.setAssignedUserId(users.get(0).getId());
+
+        statistics.clear();
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkTaskMutationRequest(null, filter, Status.COMPLETED, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(TASK_COUNT / USER_COUNT));
+
+        // One locking select for the before states, one update for all of them
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(TASK_COUNT / USER_COUNT, taskStatsService.getStats().getByStatus().get(Status.COMPLETED));
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        // Tasks already in the target status are not touched again
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkTaskMutationRequest(null, filter, Status.COMPLETED, null))))
+                .andExpect(jsonPath("$.affected").value(0));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenReassignAndDeleteByIds_thenTasksChange() throws Exception {
+        taskStatsService.reconcile();
+        Set<UUID> ids = Set.of(assignedTask.getId());
+
+        mockMvc.perform(post("/api/tasks/bulk/assignee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new BulkTaskMutationRequest(ids, null, null, users.get(5).getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(jsonPath("$.assignedUser.username").value("user5"));
+        assertEquals(TASK_COUNT / USER_COUNT + 1, taskStatsService.getStatsForUser(users.get(5).getId()).getTotal());
+
+        mockMvc.perform(post("/api/tasks/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkTaskMutationRequest(ids, null, null, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isNotFound());
+        assertEquals(TASK_COUNT - 1, taskStatsService.getStats().getTotal());
+    }
+
+    @Test
+    @WithMockJwt(username = "user0", roles = "USER")
+    void whenPatchStatus_thenOnlyChangedColumnsAreWritten() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.title").value("Task 0"));
+
+        List<String> updates = RecordingStatementInspector.statements().stream()
+                .filter(sql -> sql.startsWith("update"))
+                .toList();
+        assertEquals(1, updates.size());
+        assertTrue(updates.get(0).contains("status="));
+        assertTrue(updates.get(0).contains("updated_at="));
+        assertFalse(updates.get(0).contains("title="));
+        assertFalse(updates.get(0).contains("assigned_user_id="));
+        // The unchanged assignee is not looked up again
+        assertTrue(RecordingStatementInspector.statements().stream().noneMatch(sql -> sql.contains("from users")));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPatchChangesNothing_thenNothingIsWritten() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"TODO\", \"assignedUserId\": \"" + users.get(0).getId() + "\"}"))
+                .andExpect(status().isOk());
+
+        assertTrue(RecordingStatementInspector.statements().stream().noneMatch(sql -> sql.startsWith("update")));
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPatchedWithCurrentETag_thenVersionAdvancesAndStaleETagIsRejected() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newETag = mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(assignedTask.getVersion() + 1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()).header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenPageUnchanged_thenNotModifiedAndChangedAfterBulkUpdate() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        BulkTaskMutationRequest request = new BulkTaskMutationRequest();
+        request.setIds(Set.of(assignedTask.getId()));
+        request.setStatus(Status.COMPLETED);
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenTasksChangedSinceCursor_thenFeedReturnsThemAndTombstones() throws Exception {
+        String head = mockMvc.perform(get("/api/tasks/changes"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long since = objectMapper.readTree(head).get("cursor").asLong();
+        Task deletedTask = taskRepository.findAll().stream()
+                .filter(task -> !task.getId().equals(assignedTask.getId()))
+                .findFirst().orElseThrow();
+
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/{id}", deletedTask.getId()))
+                .andExpect(status().isNoContent());
+
+        statistics.clear();
+        String changes = mockMvc.perform(get("/api/tasks/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value(assignedTask.getId().toString()))
+                .andExpect(jsonPath("$.changed[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.deleted[0]").value(deletedTask.getId().toString()))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+        // Log bounds, log rows and the changed tasks with their users, however many tasks exist
+        assertTrue(statistics.getPrepareStatementCount() <= 4);
+
+        mockMvc.perform(get("/api/tasks/changes")
+                .param("since", objectMapper.readTree(changes).get("cursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deleted").isEmpty());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenTaskPatched_thenHistoryEventuallyShowsChangedFields() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"title\": \"Renamed\", \"status\": \"COMPLETED\"}"))
+                .andExpect(status().isOk());
+
+        // Audit rows are written behind the request by the writer thread
+        JsonNode history = objectMapper.createObjectNode();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            history = objectMapper.readTree(mockMvc.perform(get("/api/tasks/{id}/history", assignedTask.getId()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (history.get("items").size() >= 2) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+
+        assertEquals(2, history.get("items").size());
+        assertEquals("status", history.get("items").get(0).get("field").asText());
+        assertEquals("COMPLETED", history.get("items").get(0).get("newValue").asText());
+        assertEquals("title", history.get("items").get(1).get("field").asText());
+        assertEquals("Task 0", history.get("items").get(1).get("oldValue").asText());
+        assertEquals("testuser", history.get("items").get(1).get("changedBy").asText());
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenFinishedTaskArchived_thenReadableByIdAndListedOnlyWhenIncluded() throws Exception {
+        jdbcTemplate.update("update tasks set status = 'COMPLETED', updated_at = ? where id = ?",
+                LocalDateTime.now().minusYears(1), assignedTask.getId());
+
+        assertEquals(1, taskArchiver.archive());
+        assertFalse(taskRepository.existsById(assignedTask.getId()));
+
+        mockMvc.perform(get("/api/tasks/{id}", assignedTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.title").value("Task 0"));
+        mockMvc.perform(get("/api/tasks").param("size", "100"))
+                .andExpect(jsonPath("$.items.length()").value(TASK_COUNT - 1));
+        mockMvc.perform(get("/api/tasks").param("size", "100").param("includeArchived", "true"))
+                .andExpect(jsonPath("$.items.length()").value(TASK_COUNT))
+                .andExpect(jsonPath("$.items[0].id").value(assignedTask.getId().toString()));
+        mockMvc.perform(get("/api/tasks/search").param("status", "COMPLETED"))
+                .andExpect(jsonPath("$.items").isEmpty());
+        mockMvc.perform(get("/api/tasks/search").param("status", "COMPLETED").param("includeArchived", "true"))
+                .andExpect(jsonPath("$.items.length()").value(1));
+
+        // The archive is read-only
+        mockMvc.perform(patch("/api/tasks/{id}", assignedTask.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"TODO\"}"))
+                .andExpect(status().isConflict());
+        assertEquals(0, taskArchiver.archive());
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskmanagement.userservice.task.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.userservice.security.WithMockJwt;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+import com.taskmanagement.userservice.user.repository.UserRepository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * Exports a table far larger than the heap headroom it is allowed from a real, embedded
+ * PostgreSQL, so both the server-side cursor and the persistence context clearing are exercised.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "eureka.client.enabled=false",
+    "app.init-db=false",
+    "app.cache.invalidation.enabled=false",
+    "app.outbox.relay.enabled=false"
+})
+@DirtiesContext
+class TaskExportPostgresTest {
+
+    private static final int TASK_COUNT = 200_000;
+    private static final int SAMPLE_EVERY = 20_000;
+    // A leaked row costs well over a kilobyte once loaded, so keeping them all would take hundreds of megabytes
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    // Outlives the application context, which is closed first; stopped by its own shutdown hook
+    private static final EmbeddedPostgres postgres = start();
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Test
+    @WithMockJwt(roles = "ADMIN")
+    void whenExportingManyTasks_thenEveryRowIsOneJsonLineAndHeapStaysBounded() throws IOException {
+        // Arrange
+        User assignee = userRepository.save(new User("assignee", "password", "assignee@example.com",
+                Set.of(Role.USER)));
+        jdbcTemplate.update("insert into tasks (id, title, description, status, priority, assigned_user_id,"
+                + " created_by_user_id, created_at, updated_at, version)"
+                + " select gen_random_uuid(), 'Task ' || n, repeat('d', 400), 'TODO', 'LOW', ?, ?, now(), now(), 0"
+                + " from generate_series(1, ?) n", assignee.getId(), assignee.getId(), TASK_COUNT);
+        NdjsonSink sink = new NdjsonSink();
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return sink;
+            }
+        };
+        long baseline = usedHeapAfterGc();
+
+        // Act
+        taskController.exportTasks(response);
+
+        // Assert
+        assertEquals("application/x-ndjson", response.getContentType());
+        assertEquals(TASK_COUNT, sink.lines);
+        assertEquals(0, sink.pending.size(), "the output must end with a newline");
+        long growth = sink.maxUsedHeap - baseline;
+        assertTrue(growth < MAX_HEAP_GROWTH, "heap grew by " + growth / (1024 * 1024) + " MB during the export");
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Parses each line as it arrives and samples the heap while the export is still running
+    private final class NdjsonSink extends ServletOutputStream {
+
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private int lines;
+        private long maxUsedHeap;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (b != '\n') {
+                pending.write(b);
+                return;
+            }
+            JsonNode task = objectMapper.readTree(pending.toByteArray());
+            assertTrue(task.get("title").asText().startsWith("Task "));
+            UUID.fromString(task.get("id").asText());
+            pending.reset();
+            if (++lines % SAMPLE_EVERY == 0) {
+                maxUsedHeap = Math.max(maxUsedHeap, usedHeapAfterGc());
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+    }
+}
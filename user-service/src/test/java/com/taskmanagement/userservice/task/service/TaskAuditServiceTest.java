@@ -0,0 +1,135 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import com.taskmanagement.userservice.task.dto.TaskHistoryResponse;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.TaskAudit;
+import com.taskmanagement.userservice.task.repository.TaskAuditRepository;
+
+class TaskAuditServiceTest {
+
+    @Mock
+    private TaskAuditRepository auditRepository;
+
+    @Mock
+    private TaskAuditWriter auditWriter;
+
+    private TaskAuditService taskAuditService;
+
+    private final UUID taskId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskAuditService = new TaskAuditService(auditRepository, auditWriter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenTaskUpdated_thenOnlyChangedFieldsAreAudited() {
+        // Arrange
+        TaskSnapshot before = snapshot("Task", Status.TODO, Priority.LOW);
+        TaskSnapshot after = snapshot("Renamed", Status.IN_PROGRESS, Priority.LOW);
+
+        // Act
+        taskAuditService.onTaskChanged(TaskChangedEvent.updated(before, after));
+
+        // Assert
+        ArgumentCaptor<List<TaskAudit>> rows = ArgumentCaptor.forClass(List.class);
+        verify(auditWriter).enqueue(rows.capture());
+        assertEquals(2, rows.getValue().size());
+        TaskAudit title = rows.getValue().get(0);
+        assertEquals("title", title.getField());
+        assertEquals("Task", title.getOldValue());
+        assertEquals("Renamed", title.getNewValue());
+        assertEquals(TaskAuditService.SYSTEM_USER, title.getChangedBy());
+        TaskAudit status = rows.getValue().get(1);
+        assertEquals("status", status.getField());
+        assertEquals("TODO", status.getOldValue());
+        assertEquals("IN_PROGRESS", status.getNewValue());
+    }
+
+    @Test
+    void whenUpdateChangesNothing_thenNothingIsAudited() {
+        TaskSnapshot snapshot = snapshot("Task", Status.TODO, Priority.LOW);
+
+        taskAuditService.onTaskChanged(TaskChangedEvent.updated(snapshot, snapshot));
+
+        verify(auditWriter, never()).enqueue(any());
+    }
+
+    @Test
+    void whenTaskCreated_thenEverySetFieldIsAudited() {
+        List<TaskAudit> rows = TaskAuditService.diff(
+                TaskChangedEvent.created(snapshot("Task", Status.TODO, Priority.HIGH)), "admin", LocalDateTime.now());
+
+        // Description, due date and assignee are unset
+        assertEquals(List.of("title", "status", "priority"), rows.stream().map(TaskAudit::getField).toList());
+        assertTrue(rows.stream().allMatch(row -> row.getOldValue() == null && "admin".equals(row.getChangedBy())));
+    }
+
+    @Test
+    void whenTaskDeleted_thenOneRowWithoutFieldIsAudited() {
+        List<TaskAudit> rows = TaskAuditService.diff(
+                TaskChangedEvent.deleted(snapshot("Task", Status.TODO, Priority.LOW)), "admin", LocalDateTime.now());
+
+        assertEquals(1, rows.size());
+        assertEquals(TaskChangedEvent.Type.DELETED, rows.get(0).getAction());
+        assertNull(rows.get(0).getField());
+    }
+
+    @Test
+    void whenMoreHistoryThanLimit_thenNextCursorIsLastReturnedId() {
+        // Arrange
+        List<TaskAudit> rows = List.of(audit(9L), audit(8L), audit(7L));
+        when(auditRepository.findBefore(eq(taskId), eq(10L), any(Limit.class))).thenReturn(rows);
+
+        // Act
+        TaskHistoryResponse history = taskAuditService.getHistory(taskId, 10L, 2);
+
+        // Assert
+        assertEquals(2, history.getItems().size());
+        assertEquals(8L, history.getNextCursor());
+        verify(auditRepository).findBefore(taskId, 10L, Limit.of(3));
+    }
+
+    @Test
+    void whenHistoryFitsLimit_thenNoNextCursor() {
+        when(auditRepository.findLatest(eq(taskId), any(Limit.class))).thenReturn(List.of(audit(1L)));
+
+        TaskHistoryResponse history = taskAuditService.getHistory(taskId, null, 50);
+
+        assertEquals(1, history.getItems().size());
+        assertNull(history.getNextCursor());
+    }
+
+    private TaskSnapshot snapshot(String title, Status status, Priority priority) {
+        return new TaskSnapshot(taskId, title, null, status, priority, null, null, null, null, null);
+    }
+
+    private TaskAudit audit(long id) {
+        return new TaskAudit(id, taskId, TaskChangedEvent.Type.UPDATED, "status", "TODO", "COMPLETED", "admin",
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.model.TaskAudit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskAuditWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Integer> callerInsertedRows = new ArrayList<>();
+
+    private TaskAuditWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    void whenWriterIsStalled_thenOneOfferTimesOutAndTheRestIsWrittenByTheCaller() {
+        // Arrange: the writer thread keeps failing and retrying, so the queue never drains
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("task-audit-writer")) {
+                throw new DataAccessResourceFailureException("Database unavailable");
+            }
+            callerInsertedRows.add((invocation.getArguments().length - 1) / 7);
+            return 1;
+        });
+        writer = new TaskAuditWriter(jdbcTemplate, meterRegistry, 2, Duration.ofMillis(200), false,
+                Duration.ofSeconds(1));
+        writer.start();
+        List<TaskAudit> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(new TaskAudit(UUID.randomUUID(), TaskChangedEvent.Type.UPDATED, "status", "TODO", "COMPLETED", "testuser",
+                    LocalDateTime.now()));
+        }
+
+        // Act
+        long start = System.nanoTime();
+        writer.enqueue(rows);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert: a row-by-row timeout would take over 15 minutes
+        assertTrue(elapsedMillis < 2000, "enqueue took " + elapsedMillis + " ms");
+        double overflow = meterRegistry.get("tasks.audit.overflow").counter().count();
+        // The writer holds at most one failing batch (a polled row plus a full queue) and the queue refills once
+        assertTrue(overflow >= 5000 - 5, "only " + overflow + " rows overflowed");
+        assertEquals((long) overflow, callerInsertedRows.stream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    void whenWriterIsStopped_thenRowsAreWrittenByTheCaller() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            callerInsertedRows.add((invocation.getArguments().length - 1) / 7);
+            return 1;
+        });
+        writer = new TaskAuditWriter(jdbcTemplate, meterRegistry, 2, Duration.ofSeconds(5), false,
+                Duration.ofSeconds(1));
+
+        writer.enqueue(List.of(
+                new TaskAudit(UUID.randomUUID(), TaskChangedEvent.Type.DELETED, null, null, null, "testuser",
+                        LocalDateTime.now())));
+
+        assertEquals(List.of(1), callerInsertedRows);
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskChangeRepository;
+import com.taskmanagement.userservice.task.repository.TaskChangeWatermarkRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the change log against a real, embedded PostgreSQL with two overlapping
+ * transactions: the one that commits first must not be numbered ahead of the one still
+ * open, and neither may wait for the other.
+ */
+class TaskChangeServicePostgresTest {
+
+    private static EmbeddedPostgres postgres;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TaskChangeService taskChangeService;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists task_changes");
+        jdbcTemplate.execute("create table task_changes (id bigint generated by default as identity primary key,"
+                + " seq bigint unique, txid bigint, task_id uuid not null, deleted boolean not null,"
+                + " changed_at timestamp(6) not null)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        taskChangeService = new TaskChangeService(mock(TaskChangeRepository.class),
+                mock(TaskChangeWatermarkRepository.class), mock(TaskRepository.class),
+                mock(ArchivedTaskRepository.class), jdbcTemplate, mock(EntityManager.class), transactionManager,
+                Duration.ofDays(30));
+    }
+
+    @Test
+    void whenLaterTransactionCommitsFirst_thenItIsNotNumberedUntilTheEarlierOneEnds() throws Exception {
+        // Arrange: the first transaction takes its transaction id, writes its row, then stalls before committing
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    jdbcTemplate.queryForObject("select pg_current_xact_id()::text", String.class);
+                    taskChangeService.onTaskChanged(deleted(firstId));
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            firstWritten.countDown();
+                            try {
+                                releaseFirst.await(10, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+                }));
+        assertTrue(firstWritten.await(10, TimeUnit.SECONDS));
+
+        // Act: a later transaction commits while the first is still open
+        transactionTemplate.executeWithoutResult(status -> taskChangeService.onTaskChanged(deleted(secondId)));
+        taskChangeService.sequence();
+
+        // Assert: the committed row is held back, so no reader can move its cursor past the open one
+        assertFalse(first.isDone());
+        assertTrue(numberedTaskIds().isEmpty());
+
+        releaseFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        taskChangeService.sequence();
+        assertEquals(List.of(firstId, secondId), numberedTaskIds());
+    }
+
+    @Test
+    void whenWrittenOutsideTransaction_thenRowIsNumberedOnTheNextPass() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        taskChangeService.onTaskChanged(deleted(taskId));
+
+        // Act
+        taskChangeService.sequence();
+
+        // Assert
+        assertEquals(List.of(taskId), numberedTaskIds());
+    }
+
+    @Test
+    void whenIdentityHasGap_thenSeqContinuesWithoutOne() {
+        // Arrange: a rolled-back insert burns an identity value between two numbered rows
+        taskChangeService.onTaskChanged(deleted(UUID.randomUUID()));
+        taskChangeService.sequence();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into task_changes (task_id, deleted, changed_at)"
+                    + " values (gen_random_uuid(), true, now())");
+            status.setRollbackOnly();
+        });
+        taskChangeService.onTaskChanged(deleted(UUID.randomUUID()));
+
+        // Act
+        taskChangeService.sequence();
+
+        // Assert
+        assertEquals(List.of(1L, 2L), jdbcTemplate.queryForList("select seq from task_changes order by seq", Long.class));
+    }
+
+    private List<UUID> numberedTaskIds() {
+        return jdbcTemplate.queryForList("select task_id from task_changes where seq is not null order by seq",
+                UUID.class);
+    }
+
+    private static TaskChangedEvent deleted(UUID taskId) {
+        return TaskChangedEvent.deleted(new TaskSnapshot(taskId, "Task", "Description", Status.TODO, Priority.LOW,
+                null, null, null, null, null));
+    }
+}
@@ -0,0 +1,220 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.taskmanagement.userservice.task.dto.TaskChangesResponse;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.exception.TaskChangesExpiredException;
+import com.taskmanagement.userservice.task.model.ArchivedTask;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.model.TaskChange;
+import com.taskmanagement.userservice.task.model.TaskChangeWatermark;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskChangeRepository;
+import com.taskmanagement.userservice.task.repository.TaskChangeWatermarkRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+class TaskChangeServiceTest {
+
+    @Mock
+    private TaskChangeRepository changeRepository;
+
+    @Mock
+    private TaskChangeWatermarkRepository watermarkRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskChangeService taskChangeService;
+
+    private final LocalDateTime changedAt = LocalDateTime.now().minusMinutes(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskChangeService = new TaskChangeService(changeRepository, watermarkRepository, taskRepository, archivedTaskRepository,
+                jdbcTemplate, entityManager, transactionManager, Duration.ofDays(30));
+    }
+
+    @Test
+    void whenTaskDeletedOutsideTransaction_thenTombstoneIsWrittenImmediately() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        TaskSnapshot before = new TaskSnapshot(taskId, "Task", "Description", Status.TODO, Priority.LOW, null, null,
+                null, null, null);
+
+        // Act
+        taskChangeService.onTaskChanged(TaskChangedEvent.deleted(before));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(TaskChangeService.INSERT_SQL), rows.capture());
+        assertEquals(1, rows.getValue().size());
+        assertEquals(taskId, rows.getValue().get(0)[0]);
+        assertEquals(true, rows.getValue().get(0)[1]);
+        assertTrue(rows.getValue().get(0)[2] instanceof LocalDateTime);
+    }
+
+    @Test
+    void whenNoCursor_thenReturnsEndOfLogOnly() {
+        // Arrange
+        when(changeRepository.findLastSeq()).thenReturn(42L);
+
+        // Act
+        TaskChangesResponse changes = taskChangeService.getChangesSince(null, 50);
+
+        // Assert
+        assertEquals(42L, changes.getCursor());
+        assertTrue(changes.getChanged().isEmpty());
+        verify(changeRepository, never()).findAfter(any(Long.class), any(Limit.class));
+    }
+
+    @Test
+    void whenCursorOlderThanLog_thenThrows() {
+        // Arrange
+        when(watermarkRepository.findById(TaskChangeWatermark.PRUNED))
+                .thenReturn(Optional.of(new TaskChangeWatermark(TaskChangeWatermark.PRUNED, 100L)));
+
+        // Act & Assert
+        assertThrows(TaskChangesExpiredException.class, () -> taskChangeService.getChangesSince(10L, 50));
+    }
+
+    @Test
+    void whenCursorAtWatermarkAfterSequenceGap_thenChangesAreServed() {
+        // Arrange: everything through 100 was pruned, the oldest remaining row is 105
+        when(watermarkRepository.findById(TaskChangeWatermark.PRUNED))
+                .thenReturn(Optional.of(new TaskChangeWatermark(TaskChangeWatermark.PRUNED, 100L)));
+        UUID deletedId = UUID.randomUUID();
+        when(changeRepository.findAfter(eq(100L), any(Limit.class))).thenReturn(List.of(
+                new TaskChange(105L, 105L, deletedId, true, changedAt)));
+
+        // Act
+        TaskChangesResponse changes = taskChangeService.getChangesSince(100L, 50);
+
+        // Assert
+        assertEquals(List.of(deletedId), changes.getDeleted());
+        assertEquals(105L, changes.getCursor());
+    }
+
+    @Test
+    void whenPruned_thenWatermarkRecordsTheLastPrunedSeq() {
+        // Arrange
+        when(changeRepository.findLastSeqChangedBefore(any(LocalDateTime.class))).thenReturn(80L);
+        when(watermarkRepository.findById(TaskChangeWatermark.PRUNED))
+                .thenReturn(Optional.of(new TaskChangeWatermark(TaskChangeWatermark.PRUNED, 50L)));
+
+        // Act
+        taskChangeService.prune();
+
+        // Assert
+        ArgumentCaptor<TaskChangeWatermark> watermark = ArgumentCaptor.forClass(TaskChangeWatermark.class);
+        verify(watermarkRepository).save(watermark.capture());
+        assertEquals(80L, watermark.getValue().getSeq());
+        verify(changeRepository).deleteThrough(80L);
+    }
+
+    @Test
+    void whenTasksChanged_thenReturnsCurrentStateAndTombstonesOncePerTask() {
+        // Arrange
+        UUID changedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        when(changeRepository.findAfter(eq(5L), any(Limit.class))).thenReturn(List.of(
+                new TaskChange(6L, 6L, changedId, false, changedAt),
+                new TaskChange(7L, 7L, deletedId, true, changedAt),
+                new TaskChange(8L, 8L, changedId, false, changedAt)));
+        Task task = new Task(changedId, "Task", "Description", Status.TODO, Priority.LOW, null, null, null);
+        when(taskRepository.findAllWithUsersByIdIn(anyCollection())).thenReturn(List.of(task));
+
+        // Act
+        TaskChangesResponse changes = taskChangeService.getChangesSince(5L, 50);
+
+        // Assert
+        assertEquals(1, changes.getChanged().size());
+        assertEquals(changedId, changes.getChanged().get(0).getId());
+        assertEquals(List.of(deletedId), changes.getDeleted());
+        assertEquals(8L, changes.getCursor());
+        assertFalse(changes.isHasMore());
+    }
+
+    @Test
+    void whenChangedTaskWasArchived_thenItIsReportedAsChangedNotDeleted() {
+        // Arrange
+        UUID archivedId = UUID.randomUUID();
+        when(changeRepository.findAfter(eq(5L), any(Limit.class))).thenReturn(List.of(
+                new TaskChange(6L, 6L, archivedId, false, changedAt)));
+        when(taskRepository.findAllWithUsersByIdIn(anyCollection())).thenReturn(List.of());
+        ArchivedTask archived = mock(ArchivedTask.class);
+        when(archived.getId()).thenReturn(archivedId);
+        when(archived.toTask()).thenReturn(
+                new Task(archivedId, "Task", "Description", Status.COMPLETED, Priority.LOW, null, null, null));
+        when(archivedTaskRepository.findAllWithUsersByIdIn(Set.of(archivedId))).thenReturn(List.of(archived));
+
+        // Act
+        TaskChangesResponse changes = taskChangeService.getChangesSince(5L, 50);
+
+        // Assert
+        assertEquals(1, changes.getChanged().size());
+        assertEquals(archivedId, changes.getChanged().get(0).getId());
+        assertTrue(changes.getDeleted().isEmpty());
+    }
+
+    @Test
+    void whenMoreChangesThanLimit_thenHasMore() {
+        // Arrange
+        when(changeRepository.findAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+                new TaskChange(1L, 1L, UUID.randomUUID(), true, changedAt),
+                new TaskChange(2L, 2L, UUID.randomUUID(), true, changedAt),
+                new TaskChange(3L, 3L, UUID.randomUUID(), true, changedAt)));
+
+        // Act
+        TaskChangesResponse changes = taskChangeService.getChangesSince(0L, 2);
+
+        // Assert
+        assertEquals(2, changes.getDeleted().size());
+        assertEquals(2L, changes.getCursor());
+        assertTrue(changes.isHasMore());
+    }
+}
@@ -1,11 +1,17 @@
 package com.taskmanagement.userservice.task.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -14,26 +20,59 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.taskmanagement.userservice.cache.CacheInvalidationBus;
+import com.taskmanagement.userservice.task.dto.BulkTaskResult;
+import com.taskmanagement.userservice.task.dto.TaskCursor;
+import com.taskmanagement.userservice.task.dto.TaskPatch;
+import com.taskmanagement.userservice.task.dto.TaskSearchCriteria;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.exception.InvalidBulkRequestException;
+import com.taskmanagement.userservice.task.exception.TaskArchivedException;
+import com.taskmanagement.userservice.task.exception.TaskVersionMismatchException;
+import com.taskmanagement.userservice.task.model.ArchivedTask;
 import com.taskmanagement.userservice.task.model.Priority;
 import com.taskmanagement.userservice.task.model.Status;
 import com.taskmanagement.userservice.task.model.Task;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
 import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.user.exception.UserNotFoundException;
 import com.taskmanagement.userservice.user.model.User;
 import com.taskmanagement.userservice.user.service.IUserService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
 class TaskServiceTest {
 
     private static final String TEST_TITLE = "Test Task";
@@ -44,9 +83,27 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
     @Mock
     private IUserService userService;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -55,6 +112,11 @@ class TaskServiceTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void whenCreateTask_thenTaskIsSaved() {
         // Arrange
@@ -87,6 +149,63 @@ class TaskServiceTest {
         verify(taskRepository).save(any(Task.class));
     }
 
+    @Test
+    void whenCreateTasks_thenAssigneesResolvedOnceAndTasksPersisted() {
+        // Arrange
+        UUID aliceId = UUID.randomUUID();
+        UUID ghostId = UUID.randomUUID();
+        List<Task> tasks = List.of(bulkTask(aliceId), bulkTask(ghostId), bulkTask(aliceId));
+        when(userService.getExistingUserIds(Set.of(aliceId, ghostId))).thenReturn(Set.of(aliceId));
+        when(entityManager.getReference(eq(User.class), any())).thenAnswer(invocation -> {
+            User user = new User();
+            user.setId(invocation.getArgument(1));
+            return user;
+        });
+        doAnswer(invocation -> {
+            invocation.<Task>getArgument(0).setId(UUID.randomUUID());
+            return null;
+        }).when(entityManager).persist(any(Task.class));
+
+        // Act
+        List<BulkTaskResult> results = taskService.createTasks(tasks);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(BulkTaskResult.Outcome.CREATED, results.get(0).getOutcome());
+        assertEquals(tasks.get(0).getId(), results.get(0).getId());
+        assertEquals(BulkTaskResult.Outcome.INVALID, results.get(1).getOutcome());
+        assertEquals(List.of("Assigned user not found"), results.get(1).getErrors());
+        assertEquals(BulkTaskResult.Outcome.CREATED, results.get(2).getOutcome());
+        verify(userService).getExistingUserIds(Set.of(aliceId, ghostId));
+        verify(entityManager, times(2)).persist(any(Task.class));
+        verify(entityManager).flush();
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void whenCreateTasksChunkFails_thenOnlyThatChunkIsReported() {
+        // Arrange
+        UUID aliceId = UUID.randomUUID();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TaskService.BULK_CHUNK_SIZE + 1; i++) {
+            tasks.add(bulkTask(aliceId));
+        }
+        when(userService.getExistingUserIds(Set.of(aliceId))).thenReturn(Set.of(aliceId));
+        doThrow(new RuntimeException("constraint violated")).doNothing().when(entityManager).flush();
+
+        // Act
+        List<BulkTaskResult> results = taskService.createTasks(tasks);
+
+        // Assert
+        assertEquals(TaskService.BULK_CHUNK_SIZE + 1, results.size());
+        assertEquals(BulkTaskResult.Outcome.FAILED, results.get(0).getOutcome());
+        assertEquals(BulkTaskResult.Outcome.FAILED, results.get(TaskService.BULK_CHUNK_SIZE - 1).getOutcome());
+        assertEquals(BulkTaskResult.Outcome.CREATED, results.get(TaskService.BULK_CHUNK_SIZE).getOutcome());
+        verify(entityManager, times(2)).flush();
+        verify(transactionManager).rollback(any());
+    }
+
     @Test
     void whenCreateTask_thenAssignedUserNotFound() {
         // Arrange
@@ -179,7 +298,7 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        Task updatedTask = taskService.updateTask(taskId, updatedTaskDetails);
+        Task updatedTask = taskService.updateTask(taskId, updatedTaskDetails, null);
 
         // Assert
         assertNotNull(updatedTask);
@@ -191,6 +310,71 @@ class TaskServiceTest {
         assertEquals(newDueDate, updatedTask.getDueDate());
         verify(taskRepository).findById(taskId);
         verify(taskRepository).save(any(Task.class));
+        verify(invalidationBus).publish(CacheInvalidationBus.TASKS, taskId);
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals("Old Title", event.getValue().getBefore().getTitle());
+        assertEquals(TEST_TITLE, event.getValue().getAfter().getTitle());
+    }
+
+    @Test
+    void whenPatchTask_thenOnlyPresentFieldsChange() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        User assignee = new User();
+        assignee.setId(UUID.randomUUID());
+        Task existingTask = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, Status.TODO, TEST_PRIORITY, null, assignee, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.saveAndFlush(existingTask)).thenReturn(existingTask);
+        TaskPatch patch = new TaskPatch();
+        patch.setStatus(Status.IN_PROGRESS);
+        patch.setAssignedUserId(assignee.getId());
+
+        // Act
+        Task patchedTask = taskService.patchTask(taskId, patch, null);
+
+        // Assert
+        assertEquals(Status.IN_PROGRESS, patchedTask.getStatus());
+        assertEquals(TEST_TITLE, patchedTask.getTitle());
+        assertEquals(assignee, patchedTask.getAssignedUser());
+        verify(userService, never()).getUserById(any());
+        verify(invalidationBus).publish(CacheInvalidationBus.TASKS, taskId);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void whenPatchChangesNothing_thenNothingIsSaved() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        Task existingTask = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, null, null, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle(TEST_TITLE);
+
+        // Act
+        Task patchedTask = taskService.patchTask(taskId, patch, null);
+
+        // Assert
+        assertEquals(existingTask, patchedTask);
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        verifyNoMoreInteractions(invalidationBus, eventPublisher);
+    }
+
+    @Test
+    void whenPatchTaskWithStaleVersion_thenNothingIsSaved() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        Task existingTask = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, null, null, null);
+        existingTask.setVersion(4L);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle("New Title");
+
+        // Act & Assert
+        assertThrows(TaskVersionMismatchException.class, () -> taskService.patchTask(taskId, patch, 3L));
+        assertEquals(TEST_TITLE, existingTask.getTitle());
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        verifyNoMoreInteractions(invalidationBus, eventPublisher);
     }
 
     @Test
@@ -201,37 +385,110 @@ class TaskServiceTest {
         when(taskRepository.findById(nonExistentTaskId)).thenReturn(Optional.empty());
 
         // Act
-        Task updatedTask = taskService.updateTask(nonExistentTaskId, updatedTaskDetails);
+        Task updatedTask = taskService.updateTask(nonExistentTaskId, updatedTaskDetails, null);
 
         // Assert
         assertNull(updatedTask);
         verify(taskRepository).findById(nonExistentTaskId);
         verify(taskRepository, never()).save(any(Task.class));
+        verifyNoMoreInteractions(invalidationBus);
+    }
+
+    @Test
+    void whenUpdateArchivedTask_thenItIsRefused() {
+        // Arrange
+        UUID archivedId = UUID.randomUUID();
+        when(taskRepository.findById(archivedId)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.existsById(archivedId)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(TaskArchivedException.class, () -> taskService.updateTask(archivedId, new Task(), null));
+        assertThrows(TaskArchivedException.class,
+                () -> taskService.patchTask(archivedId, new TaskPatch(), null));
+        assertThrows(TaskArchivedException.class, () -> taskService.deleteTask(archivedId));
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void whenDeleteTask_thenTaskIsDeleted() {
         // Arrange
         UUID taskId = UUID.randomUUID();
+        Task task = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, new Date(), null, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
 
         // Act
         taskService.deleteTask(taskId);
 
         // Assert
-        verify(taskRepository).deleteById(taskId);
+        verify(taskRepository).findById(taskId);
+        verify(taskRepository).delete(task);
         verifyNoMoreInteractions(taskRepository);
+        verify(invalidationBus).publish(CacheInvalidationBus.TASKS, taskId);
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskChangedEvent.Type.DELETED, event.getValue().getType());
+        assertEquals(TEST_STATUS, event.getValue().getBefore().getStatus());
+        assertNull(event.getValue().getAfter());
     }
 
     @Test
     void whenDeleteTask_thenTaskIsNotFound() {
         // Arrange
         UUID nonExistentTaskId = UUID.randomUUID();
-        doNothing().when(taskRepository).deleteById(nonExistentTaskId);
+        when(taskRepository.findById(nonExistentTaskId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertDoesNotThrow(() -> taskService.deleteTask(nonExistentTaskId));
-        verify(taskRepository).deleteById(nonExistentTaskId);
+        verify(taskRepository).findById(nonExistentTaskId);
         verifyNoMoreInteractions(taskRepository);
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void whenChangeStatus_thenOnlyChangedTasksAreUpdatedAndAnnounced() {
+        // Arrange
+        TaskSnapshot todo = snapshot(Status.TODO);
+        TaskSnapshot completed = snapshot(Status.COMPLETED);
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setIds(Set.of(todo.getId(), completed.getId()));
+        when(taskRepository.lockSnapshots(any(), eq(11))).thenReturn(List.of(todo, completed));
+
+        // Act
+        int affected = taskService.changeStatus(criteria, Status.COMPLETED, 10);
+
+        // Assert
+        assertEquals(1, affected);
+        verify(taskRepository).updateStatus(eq(List.of(todo.getId())), eq(Status.COMPLETED), any(LocalDateTime.class));
+        verify(invalidationBus).publish(CacheInvalidationBus.TASKS, todo.getId());
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(Status.TODO, event.getValue().getBefore().getStatus());
+        assertEquals(Status.COMPLETED, event.getValue().getAfter().getStatus());
+    }
+
+    @Test
+    void whenBulkSelectionExceedsLimit_thenNothingIsChanged() {
+        // Arrange
+        when(taskRepository.lockSnapshots(any(), eq(2)))
+                .thenReturn(List.of(snapshot(Status.TODO), snapshot(Status.TODO)));
+
+        // Act & Assert
+        assertThrows(InvalidBulkRequestException.class, () -> taskService.deleteTasks(new TaskSearchCriteria(), 1));
+        verify(taskRepository, never()).deleteByIds(any());
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void whenReassignToUnknownUser_thenThrowsUserNotFound() {
+        // Arrange
+        UUID unknownUserId = UUID.randomUUID();
+        when(userService.getUserById(unknownUserId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class,
+                () -> taskService.reassignTasks(new TaskSearchCriteria(), unknownUserId, 10));
+        verify(taskRepository, never()).lockSnapshots(any(), anyInt());
     }
 
     @Test
@@ -244,7 +501,7 @@ class TaskServiceTest {
         when(taskRepository.findAll()).thenReturn(tasks);
 
         // Act
-        List<Task> result = taskService.getAllTasks();
+        List<Task> result = taskService.getAllTasks(false);
 
         // Assert
         assertNotNull(result);
@@ -256,4 +513,286 @@ class TaskServiceTest {
         verify(taskRepository).findAll();
         verifyNoMoreInteractions(taskRepository);
     }
+
+    @Test
+    void whenGetTasksAfterWithoutCursor_thenFirstPageIsReturned() {
+        // Arrange
+        Task task = new Task(UUID.randomUUID(), "Task 1", "Description 1", Status.TODO, Priority.LOW, new Date(), null, null);
+        when(taskRepository.findFirstPage(Limit.of(11))).thenReturn(List.of(task));
+
+        // Act
+        List<Task> result = taskService.getTasksAfter(null, 11, false);
+
+        // Assert
+        assertEquals(List.of(task), result);
+        verify(taskRepository).findFirstPage(Limit.of(11));
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void whenGetTasksAfterWithCursor_thenSeeksPastCursor() {
+        // Arrange
+        TaskCursor cursor = new TaskCursor(LocalDateTime.now(), UUID.randomUUID());
+        Task task = new Task(UUID.randomUUID(), "Task 2", "Description 2", Status.TODO, Priority.LOW, new Date(), null, null);
+        when(taskRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), Limit.of(11))).thenReturn(List.of(task));
+
+        // Act
+        List<Task> result = taskService.getTasksAfter(cursor, 11, false);
+
+        // Assert
+        assertEquals(List.of(task), result);
+        verify(taskRepository).findPageAfter(cursor.getCreatedAt(), cursor.getId(), Limit.of(11));
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void whenGetTasksAfterIncludingArchived_thenBothTablesAreMergedInKeysetOrder() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Task first = taskCreatedAt(now.minusMinutes(3));
+        Task second = taskCreatedAt(now.minusMinutes(2));
+        Task third = taskCreatedAt(now.minusMinutes(1));
+        when(taskRepository.findFirstPage(Limit.of(2))).thenReturn(List.of(second, third));
+        List<ArchivedTask> archived = List.of(archived(first));
+        when(archivedTaskRepository.findFirstPage(Limit.of(2))).thenReturn(archived);
+
+        // Act
+        List<Task> result = taskService.getTasksAfter(null, 2, true);
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void whenTaskOnlyInArchive_thenGetTaskByIdFallsThrough() {
+        // Arrange
+        Task task = taskCreatedAt(LocalDateTime.now());
+        List<ArchivedTask> archived = List.of(archived(task));
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(task.getId())).thenReturn(Optional.of(archived.get(0)));
+
+        // Act
+        Optional<Task> result = taskService.getTaskById(task.getId());
+
+        // Assert
+        assertEquals(Optional.of(task), result);
+    }
+
+    @Test
+    void whenUpdatingMissingTask_thenArchiveIsOnlyCheckedForExistence() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+
+        // Act
+        Task result = taskService.updateTask(id, new Task(), null);
+
+        // Assert
+        assertNull(result);
+        verify(archivedTaskRepository).existsById(id);
+        verifyNoMoreInteractions(archivedTaskRepository);
+    }
+
+    @Test
+    void whenSearchIncludingArchived_thenWindowIsTakenFromMergedResults() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setIncludeArchived(true);
+        Task newest = taskCreatedAt(now);
+        Task older = taskCreatedAt(now.minusDays(1));
+        Task oldest = taskCreatedAt(now.minusDays(2));
+        when(taskRepository.search(any(), any(Sort.class), eq(0L), eq(2))).thenReturn(List.of(newest, oldest));
+        List<ArchivedTask> archived = List.of(archived(older));
+        when(archivedTaskRepository.search(any(), any(Sort.class), eq(0L), eq(2))).thenReturn(archived);
+
+        // Act
+        List<Task> result = taskService.searchTasks(criteria, Sort.by(Sort.Direction.DESC, "createdAt"), 1L, 1);
+
+        // Assert
+        assertEquals(List.of(older), result);
+    }
+
+    @Test
+    void whenExportMillionTasks_thenStreamsRowsAndClearsPersistenceContext() {
+        // Arrange
+        int rows = 1_000_000;
+        User assignee = new User();
+        assignee.setId(UUID.randomUUID());
+        // Rows are generated lazily, so only the exporter could make the heap grow
+        Stream<Task> seeded = Stream.generate(() -> new Task(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION,
+                TEST_STATUS, TEST_PRIORITY, new Date(), assignee, null)).limit(rows);
+        when(taskRepository.streamAll()).thenReturn(seeded);
+        AtomicLong consumed = new AtomicLong();
+
+        // Act
+        long exported = taskService.exportTasks(task -> consumed.incrementAndGet());
+
+        // Assert
+        assertEquals(rows, exported);
+        assertEquals(rows, consumed.get());
+        verify(taskRepository).streamAll();
+        verify(entityManager, times(rows / TaskService.EXPORT_CLEAR_INTERVAL)).clear();
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void whenExportTasks_thenArchivedTasksFollowLiveOnes() {
+        // Arrange
+        Task live = new Task(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY,
+                new Date(), null, null);
+        Task done = new Task(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION, Status.COMPLETED, TEST_PRIORITY,
+                new Date(), null, null);
+        ArchivedTask archived = archived(done);
+        when(taskRepository.streamAll()).thenReturn(Stream.of(live));
+        when(archivedTaskRepository.streamAll()).thenReturn(Stream.of(archived));
+        List<Task> consumed = new ArrayList<>();
+
+        // Act
+        long exported = taskService.exportTasks(consumed::add);
+
+        // Assert
+        assertEquals(2, exported);
+        assertEquals(List.of(live, done), consumed);
+    }
+
+    @Test
+    void whenSearchTasks_thenSortIsTieBrokenById() {
+        // Arrange
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setAssignedUserId(UUID.randomUUID());
+        Task task = new Task(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, new Date(), null, null);
+        when(taskRepository.search(any(), any(Sort.class), eq(40L), eq(21))).thenReturn(List.of(task));
+
+        // Act
+        List<Task> result = taskService.searchTasks(criteria, Sort.by(Sort.Direction.DESC, "dueDate"), 40L, 21);
+
+        // Assert
+        assertEquals(List.of(task), result);
+        verify(taskRepository).search(any(), eq(Sort.by(Sort.Direction.DESC, "dueDate").and(Sort.by("id"))), eq(40L), eq(21));
+    }
+
+    @Test
+    void whenGetTasksAssignedToWithoutStatus_thenAllStatusesAreIncluded() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Task task = new Task(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, new Date(), null, null);
+        when(userService.getUserIdByUsername("testuser")).thenReturn(Optional.of(userId));
+        when(taskRepository.findAssignedFirstPage(userId, EnumSet.allOf(Status.class), Limit.of(11))).thenReturn(List.of(task));
+
+        // Act
+        List<Task> result = taskService.getTasksAssignedTo("testuser", null, null, 11, false);
+
+        // Assert
+        assertEquals(List.of(task), result);
+    }
+
+    @Test
+    void whenGetTasksAssignedToWithCursor_thenSeeksPastCursor() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2024, 1, 1, 10, 0), UUID.randomUUID());
+        when(userService.getUserIdByUsername("testuser")).thenReturn(Optional.of(userId));
+        when(taskRepository.findAssignedPageAfter(userId, Set.of(Status.COMPLETED), cursor.getCreatedAt(), cursor.getId(), Limit.of(11)))
+                .thenReturn(List.of());
+
+        // Act
+        List<Task> result = taskService.getTasksAssignedTo("testuser", Set.of(Status.COMPLETED), cursor, 11, false);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(taskRepository).findAssignedPageAfter(userId, Set.of(Status.COMPLETED), cursor.getCreatedAt(), cursor.getId(), Limit.of(11));
+    }
+
+    @Test
+    void whenGetTasksAssignedToUnknownUser_thenReturnsEmptyWithoutQueryingTasks() {
+        // Arrange
+        when(userService.getUserIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act
+        List<Task> result = taskService.getTasksAssignedTo("ghost", null, null, 11, false);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void whenAuthorizedAndLoadedInSameRequest_thenTaskIsFetchedOnce() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        User assignedUser = new User();
+        assignedUser.setUsername("testuser");
+        UUID taskId = UUID.randomUUID();
+        Task task = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, new Date(), assignedUser, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        // Act
+        boolean assigned = taskService.isTaskAssignedToUser("testuser", taskId);
+        Optional<Task> result = taskService.getTaskById(taskId);
+
+        // Assert
+        assertTrue(assigned);
+        assertEquals(Optional.of(task), result);
+        verify(taskRepository, times(1)).findById(taskId);
+        assertEquals(1.0, meterRegistry.counter("tasks.loads.reused").count());
+    }
+
+    @Test
+    void whenLoadedOutsideRequest_thenTaskIsFetchedEachTime() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        Task task = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, new Date(), null, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        // Act
+        taskService.getTaskById(taskId);
+        taskService.getTaskById(taskId);
+
+        // Assert
+        verify(taskRepository, times(2)).findById(taskId);
+        assertEquals(0.0, meterRegistry.counter("tasks.loads.reused").count());
+    }
+
+    @Test
+    void whenTaskDeletedInRequest_thenLaterLoadGoesToRepository() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UUID taskId = UUID.randomUUID();
+        Task task = new Task(taskId, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, new Date(), null, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task), Optional.empty());
+
+        // Act
+        taskService.getTaskById(taskId);
+        taskService.deleteTask(taskId);
+        Optional<Task> result = taskService.getTaskById(taskId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(taskRepository, times(2)).findById(taskId);
+    }
+
+    private static TaskSnapshot snapshot(Status status) {
+        return new TaskSnapshot(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION, status, TEST_PRIORITY, null, null, null,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static Task bulkTask(UUID assigneeId) {
+        User assignee = new User();
+        assignee.setId(assigneeId);
+        return new Task(null, TEST_TITLE, TEST_DESCRIPTION, TEST_STATUS, TEST_PRIORITY, null, assignee, null);
+    }
+
+    private static Task taskCreatedAt(LocalDateTime createdAt) {
+        Task task = new Task(UUID.randomUUID(), TEST_TITLE, TEST_DESCRIPTION, Status.COMPLETED, TEST_PRIORITY, null,
+                null, null);
+        task.setCreatedAt(createdAt);
+        return task;
+    }
+
+    private static ArchivedTask archived(Task task) {
+        ArchivedTask archived = mock(ArchivedTask.class);
+        when(archived.toTask()).thenReturn(task);
+        return archived;
+    }
 }
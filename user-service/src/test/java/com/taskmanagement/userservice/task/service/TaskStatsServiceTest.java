@@ -0,0 +1,239 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.taskmanagement.userservice.task.dto.TaskStatsResponse;
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+import com.taskmanagement.userservice.task.repository.TaskCountRow;
+import com.taskmanagement.userservice.task.repository.ArchivedTaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.task.repository.TaskStateRow;
+import com.taskmanagement.userservice.user.service.IUserService;
+
+class TaskStatsServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private IUserService userService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+
+    private final UUID aliceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void whenTasksCreated_thenCountsIncrease() {
+        // Act
+        taskStatsService.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, Priority.HIGH, aliceId)));
+        taskStatsService.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, Priority.LOW, null)));
+
+        // Assert
+        TaskStatsResponse stats = taskStatsService.getStats();
+        assertEquals(2, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get(Status.TODO));
+        assertEquals(1L, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(1, taskStatsService.getStatsForUser(aliceId).getTotal());
+    }
+
+    @Test
+    void whenTaskUpdated_thenCountMovesBetweenBuckets() {
+        // Arrange
+        TaskSnapshot before = snapshot(Status.TODO, Priority.HIGH, aliceId);
+        taskStatsService.onTaskChanged(TaskChangedEvent.created(before));
+
+        // Act
+        taskStatsService.onTaskChanged(TaskChangedEvent.updated(before, snapshot(Status.COMPLETED, Priority.HIGH, null)));
+
+        // Assert
+        TaskStatsResponse stats = taskStatsService.getStats();
+        assertEquals(1, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(Status.TODO));
+        assertEquals(1L, stats.getByStatus().get(Status.COMPLETED));
+        assertEquals(0, taskStatsService.getStatsForUser(aliceId).getTotal());
+    }
+
+    @Test
+    void whenTaskDeleted_thenCountDecreases() {
+        // Arrange
+        TaskSnapshot task = snapshot(Status.IN_PROGRESS, Priority.MEDIUM, aliceId);
+        taskStatsService.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Act
+        taskStatsService.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        // Assert
+        assertEquals(0, taskStatsService.getStats().getTotal());
+        assertEquals(0, taskStatsService.getStatsForUser(aliceId).getTotal());
+    }
+
+    @Test
+    void whenReconciled_thenCountsMatchDatabase() {
+        // Arrange: counters have drifted from what the database holds
+        taskStatsService.onTaskChanged(TaskChangedEvent.created(snapshot(Status.TODO, Priority.HIGH, aliceId)));
+        when(taskRepository.countByStatusPriorityAndAssignee()).thenReturn(List.of(
+                row(Status.COMPLETED, Priority.LOW, aliceId, 3),
+                row(Status.TODO, Priority.LOW, null, 2)));
+
+        // Act
+        taskStatsService.reconcile();
+
+        // Assert
+        TaskStatsResponse stats = taskStatsService.getStats();
+        assertEquals(5, stats.getTotal());
+        assertEquals(0L, stats.getByPriority().get(Priority.HIGH));
+        assertEquals(3L, taskStatsService.getStatsForUser(aliceId).getByStatus().get(Status.COMPLETED));
+    }
+
+    @Test
+    void whenChangeCommittedBeforeSnapshotArrivesDuringReconcile_thenItIsCountedOnce() {
+        // Arrange: the task is already in the counted rows when its event is delivered
+        TaskSnapshot task = snapshot(Status.TODO, Priority.HIGH, aliceId);
+        when(taskRepository.countByStatusPriorityAndAssignee()).thenAnswer(invocation -> {
+            taskStatsService.onTaskChanged(TaskChangedEvent.created(task));
+            return List.of(row(Status.TODO, Priority.HIGH, aliceId, 1));
+        });
+        when(taskRepository.findStatesByIdIn(anyCollection())).thenReturn(List.of(state(task)));
+
+        // Act
+        taskStatsService.reconcile();
+
+        // Assert
+        assertEquals(1, taskStatsService.getStats().getTotal());
+        assertEquals(1, taskStatsService.getStatsForUser(aliceId).getTotal());
+    }
+
+    @Test
+    void whenChangeCommittedAfterSnapshotArrivesDuringReconcile_thenItIsApplied() {
+        // Arrange: the snapshot still has the task as TODO, the event moves it on
+        TaskSnapshot before = snapshot(Status.TODO, Priority.HIGH, aliceId);
+        TaskSnapshot after = before.withStatus(Status.COMPLETED, LocalDateTime.now());
+        when(taskRepository.countByStatusPriorityAndAssignee()).thenAnswer(invocation -> {
+            taskStatsService.onTaskChanged(TaskChangedEvent.updated(before, after));
+            return List.of(row(Status.TODO, Priority.HIGH, aliceId, 1));
+        });
+        when(taskRepository.findStatesByIdIn(anyCollection())).thenReturn(List.of(state(before)));
+
+        // Act
+        taskStatsService.reconcile();
+
+        // Assert
+        TaskStatsResponse stats = taskStatsService.getStats();
+        assertEquals(1, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(Status.TODO));
+        assertEquals(1L, stats.getByStatus().get(Status.COMPLETED));
+    }
+
+    @Test
+    void whenTaskCreatedAfterSnapshotArrivesDuringReconcile_thenItIsAdded() {
+        // Arrange: the snapshot does not have the task at all
+        TaskSnapshot task = snapshot(Status.TODO, Priority.LOW, null);
+        when(taskRepository.countByStatusPriorityAndAssignee()).thenAnswer(invocation -> {
+            taskStatsService.onTaskChanged(TaskChangedEvent.created(task));
+            return List.of(row(Status.COMPLETED, Priority.LOW, aliceId, 2));
+        });
+
+        // Act
+        taskStatsService.reconcile();
+
+        // Assert
+        TaskStatsResponse stats = taskStatsService.getStats();
+        assertEquals(3, stats.getTotal());
+        assertEquals(1L, stats.getByStatus().get(Status.TODO));
+    }
+
+    @Test
+    void whenStatsForUnknownUsername_thenReturnsZeros() {
+        // Arrange
+        when(userService.getUserIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act
+        TaskStatsResponse stats = taskStatsService.getStatsForUsername("ghost");
+
+        // Assert
+        assertEquals(0, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(Status.TODO));
+    }
+
+    private static TaskSnapshot snapshot(Status status, Priority priority, UUID assigneeId) {
+        return new TaskSnapshot(UUID.randomUUID(), "Task", "Description", status, priority, new Date(), assigneeId,
+                null, null, null);
+    }
+
+    private static TaskStateRow state(TaskSnapshot task) {
+        return new TaskStateRow() {
+            @Override
+            public UUID getId() {
+                return task.getId();
+            }
+
+            @Override
+            public Status getStatus() {
+                return task.getStatus();
+            }
+
+            @Override
+            public Priority getPriority() {
+                return task.getPriority();
+            }
+
+            @Override
+            public UUID getAssignedUserId() {
+                return task.getAssignedUserId();
+            }
+        };
+    }
+
+    private static TaskCountRow row(Status status, Priority priority, UUID assigneeId, long count) {
+        return new TaskCountRow() {
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public Priority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public UUID getAssignedUserId() {
+                return assigneeId;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
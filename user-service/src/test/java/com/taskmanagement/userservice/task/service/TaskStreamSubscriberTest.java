@@ -0,0 +1,137 @@
+package com.taskmanagement.userservice.task.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.taskmanagement.userservice.task.event.TaskChangedEvent;
+import com.taskmanagement.userservice.task.event.TaskSnapshot;
+import com.taskmanagement.userservice.task.model.Priority;
+import com.taskmanagement.userservice.task.model.Status;
+
+class TaskStreamSubscriberTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+
+    @Test
+    void whenEventsQueued_thenOneDrainSendsThemAll() throws Exception {
+        // Arrange
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, null, 4, pendingDrains::add,
+                SEND_TIMEOUT);
+
+        // Act
+        subscriber.offer(SseEmitter.event().name("created").data("{}"));
+        subscriber.offer(SseEmitter.event().name("updated").data("{}"));
+        pendingDrains.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, pendingDrains.size());
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void whenBufferOverflows_thenSubscriberIsClosed() {
+        // Arrange: the sender never gets around to draining
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, null, 2, pendingDrains::add,
+                SEND_TIMEOUT);
+        subscriber.offer(SseEmitter.event().name("created").data("{}"));
+        subscriber.offer(SseEmitter.event().name("created").data("{}"));
+
+        // Act
+        boolean accepted = subscriber.offer(SseEmitter.event().name("created").data("{}"));
+
+        // Assert
+        assertFalse(accepted);
+        assertTrue(subscriber.isClosed());
+        verify(emitter).complete();
+    }
+
+    @Test
+    void whenClientGone_thenSubscriberIsClosed() throws Exception {
+        // Arrange
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, null, 4, Runnable::run, SEND_TIMEOUT);
+
+        // Act
+        subscriber.heartbeat();
+
+        // Assert
+        assertTrue(subscriber.isClosed());
+    }
+
+    @Test
+    void whenSendBlocksPastTimeout_thenSubscriberIsEvictedAndSenderFreed() throws Exception {
+        // Arrange: the client stops reading, so the write blocks until the channel is closed by an interrupt
+        CountDownLatch sending = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new IOException("ClosedByInterruptException");
+            }
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        List<Thread> senders = new ArrayList<>();
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, null, 4, command -> {
+            Thread thread = new Thread(command);
+            senders.add(thread);
+            thread.start();
+        }, SEND_TIMEOUT);
+        subscriber.offer(SseEmitter.event().name("created").data("{}"));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        // Act
+        boolean earlyEviction = subscriber.evictIfStalled(System.nanoTime());
+        boolean eviction = subscriber.evictIfStalled(System.nanoTime() + SEND_TIMEOUT.toNanos());
+
+        // Assert
+        assertFalse(earlyEviction);
+        assertTrue(eviction);
+        assertTrue(subscriber.isClosed());
+        senders.get(0).join(10_000);
+        assertFalse(senders.get(0).isAlive());
+    }
+
+    @Test
+    void whenTaskMovesBetweenAssignees_thenEachSeesItAppearOrDisappear() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        TaskSnapshot before = snapshot(alice);
+        TaskChangedEvent reassigned = TaskChangedEvent.updated(before, before.withAssignedUserId(bob, null));
+
+        // Act & Assert
+        assertEquals(TaskStreamService.UPDATED, TaskStreamService.visibleAs(reassigned, null));
+        assertEquals(TaskStreamService.DELETED, TaskStreamService.visibleAs(reassigned, alice));
+        assertEquals(TaskStreamService.CREATED, TaskStreamService.visibleAs(reassigned, bob));
+        assertNull(TaskStreamService.visibleAs(reassigned, UUID.randomUUID()));
+        assertEquals(TaskStreamService.DELETED, TaskStreamService.visibleAs(TaskChangedEvent.deleted(before), alice));
+    }
+
+    private static TaskSnapshot snapshot(UUID assigneeId) {
+        return new TaskSnapshot(UUID.randomUUID(), "Task", "Description", Status.TODO, Priority.LOW, null, assigneeId,
+                null, null, null);
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanagement.userservice.user.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.taskmanagement.userservice.cache.CacheInvalidationBus;
+import com.taskmanagement.userservice.cache.CacheInvalidationHandler;
+import com.taskmanagement.userservice.task.repository.TaskRepository;
+import com.taskmanagement.userservice.user.model.Role;
+import com.taskmanagement.userservice.user.model.User;
+import com.taskmanagement.userservice.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks that users served from the second-level cache (by id, by username and their
+ * roles) never outlive an update or delete made through {@link UserService}.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:user-cache;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "eureka.client.enabled=false",
+    "app.init-db=false",
+    "app.cache.invalidation.enabled=false",
+    "app.outbox.relay.enabled=false"
+})
+class UserServiceCacheCoherenceTest {
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheInvalidationHandler invalidationHandler;
+
+    private Statistics statistics;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        userId = userService.createUser(new User("alice", "password", "alice@example.com", Set.of(Role.USER))).getId();
+
+        // Warm the user, roles and username caches
+        userService.getUserById(userId);
+        userService.getUserByUsername("alice");
+        statistics.clear();
+    }
+
+    @Test
+    void whenUserReadAgain_thenServedFromCache() {
+        // Act
+        User byId = userService.getUserById(userId).orElseThrow();
+        User byUsername = userService.getUserByUsername("alice");
+
+        // Assert
+        assertEquals("alice", byId.getUsername());
+        assertEquals(Set.of(Role.USER), byUsername.getRoles());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void whenUserUpdated_thenCachedReadsSeeNewState() {
+        // Arrange
+        User changes = new User("alice2", null, "alice2@example.com", Set.of(Role.ADMIN));
+
+        // Act
+        userService.updateUser(userId, changes);
+
+        // Assert
+        User byId = userService.getUserById(userId).orElseThrow();
+        assertEquals("alice2", byId.getUsername());
+        assertEquals("alice2@example.com", byId.getEmail());
+        assertEquals(Set.of(Role.ADMIN), byId.getRoles());
+        assertEquals(userId, userService.getUserByUsername("alice2").getId());
+        assertEquals(Set.of(Role.ADMIN), userService.getUserByUsername("alice2").getRoles());
+        assertThrows(UsernameNotFoundException.class, () -> userService.getUserByUsername("alice"));
+        assertTrue(userService.getUserIdByUsername("alice").isEmpty());
+    }
+
+    @Test
+    void whenUserDeleted_thenCachedReadsMiss() {
+        // Act
+        userService.deleteUser(userId);
+
+        // Assert
+        assertTrue(userService.getUserById(userId).isEmpty());
+        assertTrue(userService.getUserIdByUsername("alice").isEmpty());
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("alice"));
+    }
+
+    @Test
+    void whenChangedOnAnotherNode_thenInvalidationDropsCachedUser() {
+        // Arrange: another instance renames the user, bypassing this node's caches
+        jdbcTemplate.update("update users set username = ?, email = ? where id = ?", "alice3", "alice3@example.com", userId);
+        assertEquals("alice", userService.getUserById(userId).orElseThrow().getUsername());
+
+        // Act
+        invalidationHandler.evict(CacheInvalidationBus.USERS, userId.toString());
+
+        // Assert
+        assertEquals("alice3", userService.getUserById(userId).orElseThrow().getUsername());
+        assertEquals(userId, userService.getUserByUsername("alice3").getId());
+        assertThrows(UsernameNotFoundException.class, () -> userService.getUserByUsername("alice"));
+    }
+}
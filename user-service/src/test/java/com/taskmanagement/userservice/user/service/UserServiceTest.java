@@ -1,15 +1,21 @@
 package com.taskmanagement.userservice.user.service;
 
+import com.taskmanagement.userservice.cache.CacheInvalidationBus;
+import com.taskmanagement.userservice.user.event.UserChangedEvent;
 import com.taskmanagement.userservice.user.model.User;
 import com.taskmanagement.userservice.user.repository.UserRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 
 import java.util.Optional;
 
@@ -25,12 +31,22 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
     }
 
     @Test
@@ -51,6 +67,27 @@ class UserServiceTest {
         assertEquals("testuser", savedUser.getUsername());
         verify(passwordEncoder).encode("password");
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void whenCreateUser_thenPasswordIsHashedBeforeTransactionOpens() {
+        // Arrange
+        User user = new User();
+        user.setUsername("testuser");
+        user.setPassword("password");
+
+        when(passwordEncoder.encode(any(String.class))).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(user);
+
+        // Act
+        userService.createUser(user);
+
+        // Assert
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, userRepository);
+        inOrder.verify(passwordEncoder).encode("password");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).save(any(User.class));
     }
 
     @Test